@@ -0,0 +1,54 @@
+package com.bristotartur.cedupscore_api.benchmarks;
+
+import com.bristotartur.cedupscore_api.domain.Event;
+import com.bristotartur.cedupscore_api.dtos.request.EventScoreRequestDto;
+import com.bristotartur.cedupscore_api.enums.EventType;
+import com.bristotartur.cedupscore_api.enums.ExtraType;
+import com.bristotartur.cedupscore_api.services.EventValidationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventScoresBenchmark {
+
+    @Param({"TASK", "TASK_TIED", "SPORT"})
+    private String scenario;
+
+    private final EventValidationService eventValidator = new EventValidationService();
+
+    private Event event;
+    private Set<EventScoreRequestDto> scores;
+
+    @Setup
+    public void setup() {
+        var type = scenario.startsWith("TASK") ? EventType.TASK : EventType.SPORT;
+        var tied = scenario.equals("TASK_TIED");
+        var extraType = (type == EventType.TASK) ? ExtraType.NORMAL : ExtraType.FUTSAL;
+        var possibleScores = (type == EventType.TASK) ? new int[]{50, 40, 30, 20, 10} : new int[]{100, 90, 80, 70, 50};
+
+        event = SyntheticData.event(type, extraType, SyntheticData.teams());
+        scores = new HashSet<>();
+
+        for (var score : event.getScores()) {
+            var index = score.getId().intValue() - 1;
+            var value = (tied && index == 1) ? possibleScores[0] : possibleScores[index];
+
+            scores.add(new EventScoreRequestDto(score.getId(), value));
+        }
+    }
+
+    @Benchmark
+    public Map<Long, Integer> validateEventScores() {
+        return eventValidator.validateEventScoresAndReturnScoresMap(event, scores);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.bristotartur.cedupscore_api.benchmarks;
+
+import com.bristotartur.cedupscore_api.domain.Event;
+import com.bristotartur.cedupscore_api.domain.Participant;
+import com.bristotartur.cedupscore_api.dtos.projections.ParticipantSummary;
+import com.bristotartur.cedupscore_api.dtos.request.ParticipantCSVDto;
+import com.bristotartur.cedupscore_api.dtos.response.ParticipantResponseDto;
+import com.bristotartur.cedupscore_api.dtos.response.TaskEventResponseDto;
+import com.bristotartur.cedupscore_api.enums.EventType;
+import com.bristotartur.cedupscore_api.enums.ExtraType;
+import com.bristotartur.cedupscore_api.enums.Gender;
+import com.bristotartur.cedupscore_api.enums.ParticipantType;
+import com.bristotartur.cedupscore_api.mappers.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ParticipantMapper participantMapper = new ParticipantMapperImpl();
+    private final EventMapper eventMapper = new EventMapperImpl();
+    private final ScoreMapper scoreMapper = new ScoreMapperImpl();
+    private final TeamMapper teamMapper = new TeamMapperImpl();
+
+    private ParticipantCSVDto csvDto;
+    private ParticipantSummary summary;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        csvDto = new ParticipantCSVDto("ARTUR DA ROSA BRISTOT", SyntheticData.cpf(1, true), "Masculino", "Aluno", "Twister");
+        summary = new ParticipantSummary(1L, "ARTUR DA ROSA BRISTOT", ParticipantType.STUDENT, Gender.MALE, true);
+        event = SyntheticData.event(EventType.TASK, ExtraType.NORMAL, SyntheticData.teams());
+    }
+
+    @Benchmark
+    public Participant toNewParticipant() {
+        return participantMapper.toNewParticipant(csvDto, Gender.MALE, ParticipantType.STUDENT);
+    }
+
+    @Benchmark
+    public ParticipantResponseDto toParticipantResponseDto() {
+        return participantMapper.toParticipantResponseDto(summary, List.of());
+    }
+
+    @Benchmark
+    public TaskEventResponseDto toTaskEventResponseDto() {
+        var scores = event.getScores()
+                .stream()
+                .map(score -> scoreMapper.toEventScoreResponseDto(score, teamMapper.toTeamResponseDto(score.getTeam())))
+                .toList();
+
+        return eventMapper.toTaskEventResponseDto(event, scores);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.bristotartur.cedupscore_api.benchmarks;
+
+import com.bristotartur.cedupscore_api.enums.CpfValidationResult;
+import com.bristotartur.cedupscore_api.enums.Patterns;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternsBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final String[] formattedCpfs = new String[SIZE];
+    private final String[] digitCpfs = new String[SIZE];
+    private final String[] emails = new String[SIZE];
+
+    @Setup
+    public void setup() {
+        var random = SyntheticData.random();
+
+        for (int i = 0; i < SIZE; i++) {
+            formattedCpfs[i] = SyntheticData.cpf(random.nextInt(899_999_999), true);
+            digitCpfs[i] = SyntheticData.cpf(random.nextInt(899_999_999), false);
+            emails[i] = "user.%d@cedupscore.com".formatted(i);
+        }
+    }
+
+    @Benchmark
+    public void compiledRegexCpf(Blackhole blackhole) {
+        for (var cpf : formattedCpfs) {
+            blackhole.consume(Pattern.compile(Patterns.CPF_REGEX.value).matcher(cpf).matches());
+        }
+    }
+
+    @Benchmark
+    public void patternsValidateCpf(Blackhole blackhole) {
+        for (var cpf : formattedCpfs) {
+            blackhole.consume(Patterns.validateCpf(cpf));
+        }
+    }
+
+    @Benchmark
+    public void validateFormattedCpf(Blackhole blackhole) {
+        for (var cpf : formattedCpfs) {
+            blackhole.consume(CpfValidationResult.validate(cpf));
+        }
+    }
+
+    @Benchmark
+    public void formatDigitCpf(Blackhole blackhole) {
+        for (var cpf : digitCpfs) {
+            blackhole.consume(CpfValidationResult.format(cpf));
+        }
+    }
+
+    @Benchmark
+    public void patternsValidateEmail(Blackhole blackhole) {
+        for (var email : emails) {
+            blackhole.consume(Patterns.validateEmail(email));
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.bristotartur.cedupscore_api.benchmarks;
+
+import com.bristotartur.cedupscore_api.domain.*;
+import com.bristotartur.cedupscore_api.enums.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class SyntheticData {
+
+    public static final String[] TEAM_NAMES = {"Papa-Léguas", "Twister", "Atômica", "Gorgonzolas", "Unicontrix"};
+
+    private static final String[] FIRST_NAMES = {"Artur", "Sophia", "Joana", "Miguel", "João", "Helena", "Lúcia", "Otávio"};
+    private static final String[] LAST_NAMES = {"da Rosa", "Mendes", "Almeida", "Santos", "Conceição", "Araújo", "Gonçalves"};
+
+    private SyntheticData() {
+    }
+
+    public static Random random() {
+        return new Random(42);
+    }
+
+    public static String name(Random random) {
+        return "%s %s %s".formatted(
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+        );
+    }
+
+    public static String cpf(int seed, boolean formatted) {
+        var cpf = CpfValidationResult.generate(100_000_000L + seed);
+        return (formatted) ? cpf : cpf.replace(".", "").replace("-", "");
+    }
+
+    public static List<Team> teams() {
+        var teams = new ArrayList<Team>();
+
+        for (int i = 0; i < TEAM_NAMES.length; i++) {
+            teams.add(Team.builder()
+                    .id((long) i + 1)
+                    .name(TEAM_NAMES[i])
+                    .logoUrl("https://cedupscore.com/logos/%d.png".formatted(i + 1))
+                    .isActive(true)
+                    .build());
+        }
+        return teams;
+    }
+
+    static Event event(EventType type, ExtraType extraType, List<Team> teams) {
+        var event = Event.builder()
+                .id(1L)
+                .name(extraType.value)
+                .status(Status.IN_PROGRESS)
+                .type(type)
+                .extraType(extraType)
+                .allowedParticipantType(ParticipantType.STUDENT)
+                .modality(Modality.MIXED)
+                .minParticipantsPerTeam(1)
+                .maxParticipantsPerTeam(10)
+                .startedAt(LocalDateTime.now())
+                .endedAt(LocalDateTime.now())
+                .edition(Edition.builder().id(1L).status(Status.IN_PROGRESS).build())
+                .responsibleUser(User.builder().id(1L).role(RoleType.SUPER_ADMIN).build())
+                .build();
+
+        for (int i = 0; i < teams.size(); i++) {
+            event.getScores().add(EventScore.builder()
+                    .id((long) i + 1)
+                    .score(0)
+                    .team(teams.get(i))
+                    .event(event)
+                    .build());
+        }
+        return event;
+    }
+
+}
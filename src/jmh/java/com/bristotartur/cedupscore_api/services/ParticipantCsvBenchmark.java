@@ -0,0 +1,206 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.benchmarks.SyntheticData;
+import com.bristotartur.cedupscore_api.domain.*;
+import com.bristotartur.cedupscore_api.dtos.request.ParticipantCSVDto;
+import com.bristotartur.cedupscore_api.enums.Gender;
+import com.bristotartur.cedupscore_api.enums.ParticipantType;
+import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.mappers.ParticipantMapperImpl;
+import com.bristotartur.cedupscore_api.mappers.RegistrationMapperImpl;
+import com.bristotartur.cedupscore_api.repositories.EditionRegistrationRepository;
+import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Lives next to ParticipantCSVService so it can drive the service's own chunked parsing and reconciliation;
+// the repositories are mocked over in-memory data so only the import logic is measured. Half of the rows carry an
+// invalid CPF or an unknown team, and the "rows" counter reports the time per row, which should stay flat across
+// file sizes if the import scales linearly.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParticipantCsvBenchmark {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String UNKNOWN_TEAM = "Equipe Fantasma";
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private byte[] csv;
+    private Edition edition;
+    private ParticipantCSVService participantCSVService;
+    private List<List<ParticipantCSVDto>> parsedChunks;
+    private List<List<ParticipantCSVDto>> chunks;
+
+    @Setup
+    public void setup() throws IOException {
+        var random = SyntheticData.random();
+        var output = new ByteArrayOutputStream();
+        var existing = new ArrayList<Participant>();
+
+        try (var writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("nome,cpf,gênero,tipo,equipe\n");
+
+            for (int i = 0; i < rows; i++) {
+                var name = SyntheticData.name(random);
+                var cpf = (i % 4 == 1) ? invalidCpf(i) : SyntheticData.cpf(i, i % 2 == 0);
+                var gender = (i % 2 == 0) ? Gender.MALE : Gender.FEMALE;
+                var team = (i % 4 == 3) ? UNKNOWN_TEAM : SyntheticData.TEAM_NAMES[i % SyntheticData.TEAM_NAMES.length];
+
+                writer.write("%s,%s,%s,%s,%s\n".formatted(name, cpf, gender.value, ParticipantType.STUDENT.value, team));
+
+                if (i % 2 == 0 && i % 3 == 0) {
+                    existing.add(Participant.builder()
+                            .id((long) i)
+                            .name(name.toUpperCase(Locale.ROOT))
+                            .cpf(SyntheticData.cpf(i, true))
+                            .gender(gender)
+                            .type(ParticipantType.STUDENT)
+                            .isActive(true)
+                            .build());
+                }
+            }
+        }
+        csv = output.toByteArray();
+        edition = this.createEdition();
+        participantCSVService = this.createService(existing.stream()
+                .collect(Collectors.toMap(Participant::getCpf, Function.identity())));
+        parsedChunks = new ArrayList<>();
+        participantCSVService.forEachChunk(new ByteArrayResource(csv), (chunk, unreadableRows) -> parsedChunks.add(chunk));
+    }
+
+    // registerChunk normalizes the rows it receives, so every invocation starts from fresh copies.
+    @Setup(Level.Invocation)
+    public void copyChunks() {
+        chunks = parsedChunks.stream()
+                .<List<ParticipantCSVDto>>map(chunk -> chunk.stream()
+                        .map(dto -> new ParticipantCSVDto(dto.getName(), dto.getCpf(), dto.getGender(), dto.getType(), dto.getTeamName()))
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .toList();
+    }
+
+    @Benchmark
+    public void parse(RowCounter counter, Blackhole blackhole) {
+        participantCSVService.forEachChunk(new ByteArrayResource(csv), (chunk, unreadableRows) -> {
+            blackhole.consume(chunk);
+            blackhole.consume(unreadableRows);
+        });
+        counter.rows += rows;
+    }
+
+    @Benchmark
+    public void reconcile(RowCounter counter, Blackhole blackhole) {
+        var totals = new ParticipantCSVService.RegistrationTotals();
+        var participantsWithProblems = new ArrayList<ParticipantCSVDto>();
+        var seenCpfs = new HashSet<String>();
+
+        chunks.forEach(chunk -> participantCSVService.registerChunk(chunk, edition, seenCpfs, totals, participantsWithProblems));
+
+        blackhole.consume(totals);
+        blackhole.consume(participantsWithProblems);
+        counter.rows += rows;
+    }
+
+    @Benchmark
+    public void importFile(RowCounter counter, Blackhole blackhole) {
+        var totals = new ParticipantCSVService.RegistrationTotals();
+        var participantsWithProblems = new ArrayList<ParticipantCSVDto>();
+        var seenCpfs = new HashSet<String>();
+
+        participantCSVService.forEachChunk(new ByteArrayResource(csv), (chunk, unreadableRows) ->
+                participantCSVService.registerChunk(chunk, edition, seenCpfs, totals, participantsWithProblems)
+        );
+        blackhole.consume(totals);
+        blackhole.consume(participantsWithProblems);
+        counter.rows += rows;
+    }
+
+    private ParticipantCSVService createService(Map<String, Participant> existingParticipants) {
+        var participantRepository = mock(ParticipantRepository.class);
+        var editionRegistrationRepository = mock(EditionRegistrationRepository.class);
+
+        when(participantRepository.findByCpfIn(anySet())).thenAnswer(invocation -> {
+            Set<String> cpfs = invocation.getArgument(0);
+            return cpfs.stream().map(existingParticipants::get).filter(Objects::nonNull).toList();
+        });
+        when(participantRepository.saveAll(anyIterable())).thenAnswer(invocation -> this.toList(invocation.getArgument(0)));
+        when(editionRegistrationRepository.saveAll(anyIterable())).thenAnswer(invocation -> this.toList(invocation.getArgument(0)));
+
+        var service = new ParticipantCSVService(
+                participantRepository,
+                editionRegistrationRepository,
+                null,
+                new ParticipantValidationService(),
+                null,
+                new ParticipantMapperImpl(),
+                new RegistrationMapperImpl(),
+                null,
+                null,
+                null,
+                null
+        );
+        ReflectionTestUtils.setField(service, "chunkSize", CHUNK_SIZE);
+        return service;
+    }
+
+    private Edition createEdition() {
+        var edition = Edition.builder().id(1L).status(Status.SCHEDULED).build();
+
+        SyntheticData.teams().forEach(team -> edition.getTeamScores().add(TeamScore.builder()
+                .id(team.getId())
+                .score(0)
+                .team(team)
+                .edition(edition)
+                .build()));
+        return edition;
+    }
+
+    private static String invalidCpf(int seed) {
+        var cpf = SyntheticData.cpf(seed, true);
+        var lastDigit = Character.getNumericValue(cpf.charAt(cpf.length() - 1));
+
+        return cpf.substring(0, cpf.length() - 1) + (lastDigit + 1) % 10;
+    }
+
+    private <T> List<T> toList(Iterable<T> entities) {
+        var list = new ArrayList<T>();
+        entities.forEach(list::add);
+        return list;
+    }
+
+    // OPERATIONS counters are normalized like the primary score, so in average-time mode this reports time per row.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+
+    }
+
+}
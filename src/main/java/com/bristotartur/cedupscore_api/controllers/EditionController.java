@@ -2,15 +2,17 @@ package com.bristotartur.cedupscore_api.controllers;
 
 import com.bristotartur.cedupscore_api.dtos.response.EditionResponseDto;
 import com.bristotartur.cedupscore_api.enums.Status;
-import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
 import com.bristotartur.cedupscore_api.services.EditionService;
+import com.bristotartur.cedupscore_api.services.EditionStreamService;
+import com.bristotartur.cedupscore_api.services.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import static com.bristotartur.cedupscore_api.repositories.ParticipantSpecifications.hasEditionRegistrationCount;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,22 +22,34 @@ import java.util.List;
 public class EditionController {
 
     private final EditionService editionService;
-    private final ParticipantRepository participantRepository;
+    private final EditionStreamService editionStreamService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
-    public ResponseEntity<List<EditionResponseDto>> listAllEditions() {
-        var editions = editionService.findAllEditions();
-        var dtos = editions.stream()
-                .map(editionService::createEditionResponseDto)
-                .toList();
+    public ResponseEntity<List<EditionResponseDto>> listAllEditions(WebRequest request) {
+        var eTag = resourceVersionService.editionsETag();
 
-        return ResponseEntity.ok().body(dtos);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(editionService.findAllEditions());
     }
 
     @GetMapping(path = "/{id}")
-    public ResponseEntity<EditionResponseDto> findEditionById(@PathVariable Long id) {
+    public ResponseEntity<EditionResponseDto> findEditionById(@PathVariable Long id, WebRequest request) {
+        var eTag = resourceVersionService.editionsETag();
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         var edition = editionService.findEditionById(id);
-        return ResponseEntity.ok().body(editionService.createEditionResponseDto(edition));
+        return ResponseEntity.ok().eTag(eTag).body(editionService.createEditionResponseDto(edition));
+    }
+
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEdition(@PathVariable Long id) {
+        var edition = editionService.findEditionById(id);
+        return editionStreamService.subscribe(edition.getId());
     }
 
     @GetMapping(path = "/from")
@@ -59,10 +73,6 @@ public class EditionController {
     )
     public ResponseEntity<Void> deleteEdition(@PathVariable Long id) {
         editionService.deleteEdition(id);
-
-        var participants = participantRepository.findAll(hasEditionRegistrationCount(0));
-        participantRepository.deleteAll(participants);
-        
         return ResponseEntity.noContent().build();
     }
 
@@ -4,17 +4,19 @@ import com.bristotartur.cedupscore_api.dtos.request.EventFilterDto;
 import com.bristotartur.cedupscore_api.dtos.request.EventRequestDto;
 import com.bristotartur.cedupscore_api.dtos.request.EventScoreRequestDto;
 import com.bristotartur.cedupscore_api.dtos.response.EventResponseDto;
+import com.bristotartur.cedupscore_api.dtos.response.SliceResponseDto;
 import com.bristotartur.cedupscore_api.enums.EventType;
 import com.bristotartur.cedupscore_api.enums.Status;
 import com.bristotartur.cedupscore_api.services.EventService;
+import com.bristotartur.cedupscore_api.services.ResourceVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Set;
 
@@ -24,6 +26,7 @@ import java.util.Set;
 public class EventController {
 
     private final EventService eventService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     public ResponseEntity<Page<EventResponseDto>> listEvents(@ModelAttribute EventFilterDto filter,
@@ -31,23 +34,33 @@ public class EventController {
                                                              Pageable pageable) {
         var updatedFiler = (userId != null) ? filter.withUpdatedUser(userId) : filter;
 
-        var events = eventService.findAllEvents(updatedFiler, pageable);
-        var dtos = events.getContent()
-                .stream()
-                .map(eventService::createEventResponseDto)
-                .toList();
+        return ResponseEntity.ok().body(eventService.findAllEvents(updatedFiler, pageable));
+    }
 
-        return ResponseEntity.ok().body(new PageImpl<>(dtos, pageable, events.getTotalElements()));
+    @GetMapping(params = "after")
+    public ResponseEntity<SliceResponseDto<EventResponseDto>> listEventsAfter(@ModelAttribute EventFilterDto filter,
+                                                                              @RequestParam(value = "responsible-user", required = false) Long userId,
+                                                                              @RequestParam("after") String after,
+                                                                              Pageable pageable) {
+        var updatedFiler = (userId != null) ? filter.withUpdatedUser(userId) : filter;
+        return ResponseEntity.ok().body(eventService.findAllEvents(updatedFiler, after, pageable));
     }
 
     @GetMapping(path = "/{id}")
     public ResponseEntity<EventResponseDto> findEventById(@RequestParam(value = "type", required = false) String type,
-                                                          @PathVariable Long id) {
-        var event = (type != null)
-                ? eventService.findEventById(id, EventType.findEventTypeLike(type))
+                                                          @PathVariable Long id,
+                                                          WebRequest request) {
+        var eventType = (type != null) ? EventType.findEventTypeLike(type) : null;
+        var eTag = resourceVersionService.eventETag(id, eventType);
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        var event = (eventType != null)
+                ? eventService.findEventById(id, eventType)
                 : eventService.findEventById(id);
 
-        return ResponseEntity.ok().body(eventService.createEventResponseDto(event));
+        return ResponseEntity.ok().eTag(eTag).body(eventService.createEventResponseDto(event));
     }
 
     @PostMapping
@@ -1,30 +1,39 @@
 package com.bristotartur.cedupscore_api.controllers;
 
-import com.bristotartur.cedupscore_api.domain.Participant;
 import com.bristotartur.cedupscore_api.dtos.request.EventRegistrationRequestDto;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantCSVDto;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantFilterDto;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantRequestDto;
+import com.bristotartur.cedupscore_api.dtos.response.EventRegistrationIdDto;
+import com.bristotartur.cedupscore_api.dtos.response.EventRegistrationRemovalReport;
+import com.bristotartur.cedupscore_api.dtos.response.ImportJobResponseDto;
 import com.bristotartur.cedupscore_api.dtos.response.ParticipantInactivationReport;
 import com.bristotartur.cedupscore_api.dtos.response.ParticipantRegistrationReport;
 import com.bristotartur.cedupscore_api.dtos.response.ParticipantResponseDto;
+import com.bristotartur.cedupscore_api.dtos.response.ParticipantSuggestionDto;
+import com.bristotartur.cedupscore_api.dtos.response.SliceResponseDto;
 import com.bristotartur.cedupscore_api.services.ParticipantCSVService;
+import com.bristotartur.cedupscore_api.services.ParticipantImportJobService;
 import com.bristotartur.cedupscore_api.services.ParticipantService;
+import com.bristotartur.cedupscore_api.services.ParticipantSuggestionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/participants")
@@ -34,6 +43,8 @@ public class ParticipantController {
 
     private final ParticipantService participantService;
     private final ParticipantCSVService participantCSVService;
+    private final ParticipantImportJobService participantImportJobService;
+    private final ParticipantSuggestionService participantSuggestionService;
 
     @GetMapping
     public ResponseEntity<Page<ParticipantResponseDto>> listAllParticipants(@ModelAttribute ParticipantFilterDto filter,
@@ -41,10 +52,24 @@ public class ParticipantController {
                                                                             Pageable pageable) {
         var updatedFilter = (notInEvent != null) ? filter.withUpdatedNotInEvent(notInEvent) : filter;
 
-        var participants = participantService.findAllParticipants(updatedFilter, pageable);
-        var dtos = this.generateParticipantResponseDtoList(participants.getContent(), updatedFilter);
+        return ResponseEntity.ok().body(participantService.findAllParticipants(updatedFilter, pageable));
+    }
+
+    @GetMapping(params = {"count=false", "!after"})
+    public ResponseEntity<SliceResponseDto<ParticipantResponseDto>> listAllParticipantsWithoutCount(@ModelAttribute ParticipantFilterDto filter,
+                                                                                                   @RequestParam(required = false, name = "not-in-event") Long notInEvent,
+                                                                                                   Pageable pageable) {
+        var updatedFilter = (notInEvent != null) ? filter.withUpdatedNotInEvent(notInEvent) : filter;
+        return ResponseEntity.ok().body(participantService.findAllParticipantsWithoutCount(updatedFilter, pageable));
+    }
 
-        return ResponseEntity.ok().body(new PageImpl<>(dtos, pageable, participants.getTotalElements()));
+    @GetMapping(params = "after")
+    public ResponseEntity<SliceResponseDto<ParticipantResponseDto>> listParticipantsAfter(@ModelAttribute ParticipantFilterDto filter,
+                                                                                         @RequestParam(required = false, name = "not-in-event") Long notInEvent,
+                                                                                         @RequestParam("after") String after,
+                                                                                         Pageable pageable) {
+        var updatedFilter = (notInEvent != null) ? filter.withUpdatedNotInEvent(notInEvent) : filter;
+        return ResponseEntity.ok().body(participantService.findAllParticipants(updatedFilter, after, pageable));
     }
 
     @PostMapping(path = "/exclude-ids")
@@ -54,10 +79,14 @@ public class ParticipantController {
                                                                                         Pageable pageable) {
         var updatedFilter = (notInEvent != null) ? filter.withUpdatedNotInEvent(notInEvent) : filter;
 
-        var participants = participantService.findAllParticipants(updatedFilter, excludeIds, pageable);
-        var dtos = this.generateParticipantResponseDtoList(participants.getContent(), updatedFilter);
+        return ResponseEntity.ok().body(participantService.findAllParticipants(updatedFilter, excludeIds, pageable));
+    }
 
-        return ResponseEntity.ok().body(new PageImpl<>(dtos, pageable, participants.getTotalElements()));
+    @GetMapping(path = "/suggest")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<ParticipantSuggestionDto>> suggestParticipants(@RequestParam("name") String name,
+                                                                              @RequestParam(required = false, name = "limit") Integer limit) {
+        return ResponseEntity.ok().body(participantSuggestionService.suggest(name, limit));
     }
 
     @GetMapping(path = "/{id}")
@@ -91,6 +120,7 @@ public class ParticipantController {
                 .body(participantService.createParticipantResponseDto(participant, false));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @PostMapping(path = "upload/registration-csv", consumes = {"multipart/form-data"})
     @PreAuthorize(
             "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EDITION_ADMIN')"
@@ -102,6 +132,7 @@ public class ParticipantController {
         return ResponseEntity.ok(participantCSVService.handleParticipantsRegistrationCSVFile(file));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @PostMapping(path = "upload/inactivation-csv", consumes = {"multipart/form-data"})
     @PreAuthorize(
             "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EDITION_ADMIN')"
@@ -113,6 +144,55 @@ public class ParticipantController {
         return ResponseEntity.ok(participantCSVService.handleParticipantsInactivationCSVFile(file));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @PostMapping(path = "upload/registration-csv", params = "async=true", consumes = {"multipart/form-data"})
+    @PreAuthorize(
+            "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EDITION_ADMIN')"
+    )
+    public ResponseEntity<ImportJobResponseDto> submitParticipantsRegistrationCSVFile(@RequestPart("file") MultipartFile file) {
+        if (file.isEmpty() || !file.getContentType().equals("text/csv")) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        return ResponseEntity.accepted().body(participantImportJobService.submitRegistrationJob(file));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @PostMapping(path = "upload/inactivation-csv", params = "async=true", consumes = {"multipart/form-data"})
+    @PreAuthorize(
+            "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EDITION_ADMIN')"
+    )
+    public ResponseEntity<ImportJobResponseDto> submitParticipantsInactivationCSVFile(@RequestPart("file") MultipartFile file) {
+        if (file.isEmpty() || !file.getContentType().equals("text/csv")) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        return ResponseEntity.accepted().body(participantImportJobService.submitInactivationJob(file));
+    }
+
+    @GetMapping(path = "/import-jobs/{id}")
+    @PreAuthorize(
+            "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EDITION_ADMIN')"
+    )
+    public ResponseEntity<ImportJobResponseDto> findImportJobById(@PathVariable UUID id) {
+        return ResponseEntity.ok(participantImportJobService.findJobById(id));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @GetMapping(path = "export/csv")
+    @PreAuthorize(
+            "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EDITION_ADMIN')"
+    )
+    public ResponseEntity<StreamingResponseBody> exportParticipantsCSV(@ModelAttribute ParticipantFilterDto filter,
+                                                                       @RequestParam(required = false, name = "not-in-event") Long notInEvent) {
+        var updatedFilter = (notInEvent != null) ? filter.withUpdatedNotInEvent(notInEvent) : filter;
+        var headers = new HttpHeaders();
+
+        headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+        headers.setContentDispositionFormData("attachment", "participantes.csv");
+
+        StreamingResponseBody body = outputStream -> participantCSVService.writeParticipantsCSV(updatedFilter, outputStream);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
     @PostMapping(path = "generate/csv")
     @PreAuthorize(
             "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EDITION_ADMIN')"
@@ -162,10 +242,23 @@ public class ParticipantController {
     )
     public ResponseEntity<List<ParticipantResponseDto>> registerAllInEvent(@PathVariable Long eventId,
                                                                            @RequestBody @Valid List<EventRegistrationRequestDto> requestDtos) {
-        var participants = participantService.registerAllParticipantsInEvent(requestDtos, eventId);
-        var dtos = participants
+        var registrations = participantService.registerAllParticipantsInEvent(requestDtos, eventId);
+        var dtos = participantService.createEventRegistrationResponseDtos(registrations);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(dtos);
+    }
+
+    @PostMapping(path = "/register-in-event/{eventId}", params = "compact=true")
+    @PreAuthorize(
+            "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EVENT_ADMIN')"
+    )
+    public ResponseEntity<List<EventRegistrationIdDto>> registerAllInEventCompact(@PathVariable Long eventId,
+                                                                                 @RequestBody @Valid List<EventRegistrationRequestDto> requestDtos) {
+        var dtos = participantService.registerAllParticipantsInEvent(requestDtos, eventId)
                 .stream()
-                .map(participant -> participantService.createParticipantResponseDto(participant, false))
+                .map(registration -> new EventRegistrationIdDto(
+                        registration.getParticipant().getId(), registration.getTeam().getId(), registration.getId()
+                ))
                 .toList();
 
         return ResponseEntity.status(HttpStatus.CREATED).body(dtos);
@@ -202,10 +295,10 @@ public class ParticipantController {
     @PreAuthorize(
             "hasAnyAuthority('SCOPE_SUPER_ADMIN', 'SCOPE_EVENT_ADMIN')"
     )
-    public ResponseEntity<Void> deleteAllEventRegistrations(@RequestParam("event") Long eventId,
-                                                            @RequestBody List<Long> registrationsIds) {
-        participantService.deleteAllEventRegistrationsById(eventId, registrationsIds);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<EventRegistrationRemovalReport> deleteAllEventRegistrations(@RequestParam("event") Long eventId,
+                                                                                      @RequestBody List<Long> registrationsIds) {
+        var removed = participantService.deleteAllEventRegistrationsById(eventId, registrationsIds);
+        return ResponseEntity.ok(new EventRegistrationRemovalReport(eventId, removed));
     }
 
     @PutMapping(path = "/{id}")
@@ -228,21 +321,4 @@ public class ParticipantController {
         return ResponseEntity.ok().body(participantService.createParticipantResponseDto(participant, false));
     }
 
-    private List<ParticipantResponseDto> generateParticipantResponseDtoList(List<Participant> participants, ParticipantFilterDto filter) {
-
-        return participants.stream()
-                .map(participant -> {
-                    var eventId = filter.event();
-                    if (eventId != null) {
-                        return participant.getEventRegistrations().stream()
-                                .filter(registration -> registration.getEvent().getId().equals(eventId))
-                                .findFirst()
-                                .map(registration -> participantService.createParticipantResponseDto(participant, registration, false))
-                                .orElseGet(() -> participantService.createParticipantResponseDto(participant, false));
-                    }
-                    return participantService.createParticipantResponseDto(participant, false);
-                })
-                .toList();
-    }
-
 }
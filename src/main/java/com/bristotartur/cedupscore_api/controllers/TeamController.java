@@ -2,33 +2,34 @@ package com.bristotartur.cedupscore_api.controllers;
 
 import com.bristotartur.cedupscore_api.dtos.request.TeamRequestDto;
 import com.bristotartur.cedupscore_api.dtos.response.TeamResponseDto;
+import com.bristotartur.cedupscore_api.services.ResourceVersionService;
 import com.bristotartur.cedupscore_api.services.TeamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/teams")
 @RequiredArgsConstructor
-@Transactional
 public class TeamController {
 
     private final TeamService teamService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
-    public ResponseEntity<List<TeamResponseDto>> listAllTeams() {
-        var teams = teamService.findAllTeams();
-        var dtos = teams.stream()
-                .map(teamService::createTeamResponseDto)
-                .toList();
+    public ResponseEntity<List<TeamResponseDto>> listAllTeams(WebRequest request) {
+        var eTag = resourceVersionService.teamsETag();
 
-        return ResponseEntity.ok().body(dtos);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(teamService.findAllTeamResponseDtos());
     }
 
     @GetMapping(path = "/{id}")
@@ -3,6 +3,8 @@ package com.bristotartur.cedupscore_api.domain;
 import com.bristotartur.cedupscore_api.enums.Status;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -10,6 +12,8 @@ import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "TB_EDITION")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,7 +23,8 @@ import java.util.Set;
 public class Edition {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "edition_seq")
+    @SequenceGenerator(name = "edition_seq", sequenceName = "TB_EDITION_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -17,7 +17,8 @@ import java.util.Objects;
 public class EditionRegistration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "edition_registration_seq")
+    @SequenceGenerator(name = "edition_registration_seq", sequenceName = "TB_EDITION_REGISTRATION_SEQ", allocationSize = 50)
     private Long id;
 
     @ManyToOne(cascade = CascadeType.PERSIST)
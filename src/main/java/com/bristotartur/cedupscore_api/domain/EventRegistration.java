@@ -15,7 +15,8 @@ import java.util.Objects;
 public class EventRegistration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_registration_seq")
+    @SequenceGenerator(name = "event_registration_seq", sequenceName = "TB_EVENT_REGISTRATION_SEQ", allocationSize = 50)
     private Long id;
 
     @ManyToOne(cascade = CascadeType.PERSIST)
@@ -15,7 +15,8 @@ import java.util.Objects;
 public class EventScore {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_score_seq")
+    @SequenceGenerator(name = "event_score_seq", sequenceName = "TB_EVENT_SCORE_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
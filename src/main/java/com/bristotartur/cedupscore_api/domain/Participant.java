@@ -6,13 +6,16 @@ import com.bristotartur.cedupscore_api.enums.ParticipantType;
 import com.bristotartur.cedupscore_api.exceptions.BadRequestException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
+import java.text.Normalizer;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 @Entity
-@Table(name = "TB_PARTICIPANT")
+@Table(name = "TB_PARTICIPANT", indexes = @Index(name = "IDX_PARTICIPANT_SEARCH_NAME", columnList = "searchName"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -20,13 +23,21 @@ import java.util.Set;
 @Builder
 public class Participant {
 
+    public static final int NAME_GRAM_SIZE = 3;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participant_seq")
+    @SequenceGenerator(name = "participant_seq", sequenceName = "TB_PARTICIPANT_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
+    private String searchName;
+
     @Column(nullable = false, unique = true)
     private String cpf;
 
@@ -46,9 +57,52 @@ public class Participant {
     private Set<EditionRegistration> editionRegistrations = new HashSet<>();
 
     @OneToMany(mappedBy = "participant", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     @Builder.Default
     private Set<EventRegistration> eventRegistrations = new HashSet<>();
 
+    @ElementCollection
+    @CollectionTable(
+            name = "TB_PARTICIPANT_NAME_GRAM",
+            joinColumns = @JoinColumn(name = "participant_id"),
+            indexes = @Index(name = "IDX_PARTICIPANT_NAME_GRAM", columnList = "gram, participant_id")
+    )
+    @Column(name = "gram", nullable = false, length = NAME_GRAM_SIZE)
+    @Builder.Default
+    private Set<String> nameGrams = new HashSet<>();
+
+    public static String normalizeName(String name) {
+        if (name == null) return null;
+
+        var decomposed = Normalizer.normalize(name.strip(), Normalizer.Form.NFD);
+        var withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+
+        return WHITESPACES.matcher(withoutAccents).replaceAll(" ").toUpperCase();
+    }
+
+    public static Set<String> createNameGrams(String searchName) {
+        var grams = new HashSet<String>();
+
+        if (searchName == null) return grams;
+
+        for (int i = 0; i + NAME_GRAM_SIZE <= searchName.length(); i++) {
+            grams.add(searchName.substring(i, i + NAME_GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void updateSearchKeys() {
+        var normalizedName = normalizeName(name);
+
+        if (Objects.equals(searchName, normalizedName)) return;
+
+        searchName = normalizedName;
+        nameGrams.clear();
+        nameGrams.addAll(createNameGrams(normalizedName));
+    }
+
     @Override
     public String toString() {
         return "Participant{" +
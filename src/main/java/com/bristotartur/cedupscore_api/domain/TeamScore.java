@@ -15,7 +15,8 @@ import java.util.Objects;
 public class TeamScore {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_score_seq")
+    @SequenceGenerator(name = "team_score_seq", sequenceName = "TB_TEAM_SCORE_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -3,12 +3,16 @@ package com.bristotartur.cedupscore_api.domain;
 import com.bristotartur.cedupscore_api.enums.RoleType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "TB_USER")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +22,8 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "TB_USER_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,15 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+import java.time.LocalDateTime;
+
+public record EditionRegistrationSummary(
+        Long id,
+        Long participantId,
+        Long editionId,
+        LocalDateTime createdAt,
+        Long teamId,
+        String teamName,
+        String teamLogoUrl,
+        Boolean teamIsActive
+) {
+}
@@ -0,0 +1,13 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+import com.bristotartur.cedupscore_api.enums.Status;
+
+import java.time.LocalDateTime;
+
+public record EditionSummary(
+        Long id,
+        Status status,
+        LocalDateTime startDate,
+        LocalDateTime closingDate
+) {
+}
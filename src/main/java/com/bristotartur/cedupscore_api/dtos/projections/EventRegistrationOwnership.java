@@ -0,0 +1,6 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+import com.bristotartur.cedupscore_api.enums.Status;
+
+public record EventRegistrationOwnership(Status status, Long registrations) {
+}
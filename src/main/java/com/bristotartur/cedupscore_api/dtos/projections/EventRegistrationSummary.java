@@ -0,0 +1,12 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+public record EventRegistrationSummary(
+        Long id,
+        Long participantId,
+        Long eventId,
+        Long teamId,
+        String teamName,
+        String teamLogoUrl,
+        Boolean teamIsActive
+) {
+}
@@ -0,0 +1,12 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+public record EventScoreSummary(
+        Long id,
+        Long eventId,
+        Integer score,
+        Long teamId,
+        String teamName,
+        String teamLogoUrl,
+        Boolean teamIsActive
+) {
+}
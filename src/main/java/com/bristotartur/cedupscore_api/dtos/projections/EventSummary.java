@@ -0,0 +1,23 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+import com.bristotartur.cedupscore_api.enums.*;
+
+import java.time.LocalDateTime;
+
+public record EventSummary(
+        Long id,
+        String name,
+        EventType type,
+        ExtraType extraType,
+        Status status,
+        ParticipantType allowedParticipantType,
+        Modality modality,
+        Integer minParticipantsPerTeam,
+        Integer maxParticipantsPerTeam,
+        String description,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        Long editionId,
+        Long responsibleUserId
+) {
+}
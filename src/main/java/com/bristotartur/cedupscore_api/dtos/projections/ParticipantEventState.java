@@ -0,0 +1,15 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+import com.bristotartur.cedupscore_api.enums.Gender;
+import com.bristotartur.cedupscore_api.enums.ParticipantType;
+
+public record ParticipantEventState(
+        Long id,
+        String name,
+        ParticipantType type,
+        Gender gender,
+        Boolean isActive,
+        Long editionTeamId,
+        Long eventRegistrationId
+) {
+}
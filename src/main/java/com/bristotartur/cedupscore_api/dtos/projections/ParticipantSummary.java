@@ -0,0 +1,13 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+import com.bristotartur.cedupscore_api.enums.Gender;
+import com.bristotartur.cedupscore_api.enums.ParticipantType;
+
+public record ParticipantSummary(
+        Long id,
+        String name,
+        ParticipantType type,
+        Gender gender,
+        Boolean isActive
+) {
+}
@@ -0,0 +1,4 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+public record TeamRegistrationCount(Long teamId, Long count) {
+}
@@ -0,0 +1,4 @@
+package com.bristotartur.cedupscore_api.dtos.projections;
+
+public record TeamScoreTotal(Long teamId, Integer score) {
+}
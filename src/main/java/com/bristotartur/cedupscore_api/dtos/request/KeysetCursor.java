@@ -0,0 +1,28 @@
+package com.bristotartur.cedupscore_api.dtos.request;
+
+import com.bristotartur.cedupscore_api.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record KeysetCursor(Long id, String value) {
+
+    public static KeysetCursor decode(String cursor) throws BadRequestException {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = decoded.indexOf(':');
+
+            return new KeysetCursor(Long.valueOf(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Cursor inválido.", e);
+        }
+    }
+
+    public String encode() {
+        var raw = "%d:%s".formatted(id, (value != null) ? value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -12,10 +12,12 @@ public record ParticipantFilterDto(
         Gender gender,
         ParticipantType type,
         String status,
-        String order
+        String order,
+        String nameMatch
 ) {
-    public ParticipantFilterDto(String name, Long edition, Long event, Long notInEvent, Long team, Gender gender, ParticipantType type, String status, String order) {
+    public ParticipantFilterDto(String name, Long edition, Long event, Long notInEvent, Long team, Gender gender, ParticipantType type, String status, String order, String nameMatch) {
         this.name = name;
+        this.nameMatch = nameMatch;
         this.edition = edition;
         this.team = team;
         this.gender = gender;
@@ -29,7 +31,11 @@ public record ParticipantFilterDto(
     public ParticipantFilterDto withUpdatedNotInEvent(Long notInEvent) {
 
         return new ParticipantFilterDto(
-                this.name, this.edition, this.event, notInEvent, this.team, this.gender, this.type, this.status, this.order
+                this.name, this.edition, this.event, notInEvent, this.team, this.gender, this.type, this.status, this.order, this.nameMatch
         );
     }
+
+    public boolean matchesNamePrefix() {
+        return "prefix".equals(nameMatch);
+    }
 }
@@ -0,0 +1,4 @@
+package com.bristotartur.cedupscore_api.dtos.response;
+
+public record EventRegistrationIdDto(Long participantId, Long teamId, Long registrationId) {
+}
@@ -0,0 +1,7 @@
+package com.bristotartur.cedupscore_api.dtos.response;
+
+public record EventRegistrationRemovalReport(
+        Long eventId,
+        Integer removed
+) {
+}
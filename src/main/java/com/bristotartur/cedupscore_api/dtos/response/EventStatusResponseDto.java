@@ -0,0 +1,8 @@
+package com.bristotartur.cedupscore_api.dtos.response;
+
+import com.bristotartur.cedupscore_api.enums.Status;
+
+import java.time.LocalDateTime;
+
+public record EventStatusResponseDto(Long id, String name, Status status, LocalDateTime startedAt, LocalDateTime endedAt) {
+}
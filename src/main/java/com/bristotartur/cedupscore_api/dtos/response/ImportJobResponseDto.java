@@ -0,0 +1,19 @@
+package com.bristotartur.cedupscore_api.dtos.response;
+
+import com.bristotartur.cedupscore_api.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ImportJobResponseDto(
+        UUID id,
+        String type,
+        ImportJobStatus status,
+        Integer processed,
+        Integer rejected,
+        Object report,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.bristotartur.cedupscore_api.dtos.response;
+
+public record ParticipantSuggestionDto(
+        Long id,
+        String name,
+        Long teamId,
+        String teamName
+) {
+}
@@ -0,0 +1,11 @@
+package com.bristotartur.cedupscore_api.dtos.response;
+
+import java.util.List;
+
+public record SliceResponseDto<T>(
+        List<T> content,
+        Integer size,
+        Boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,121 @@
+package com.bristotartur.cedupscore_api.enums;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum CpfValidationResult {
+    VALID("CPF válido."),
+    EMPTY("O CPF não foi informado."),
+    INVALID_FORMAT("O CPF deve estar no formato 000.000.000-00 ou conter apenas 11 dígitos."),
+    REPEATED_DIGITS("O CPF não pode conter todos os dígitos iguais."),
+    INVALID_CHECK_DIGITS("Os dígitos verificadores do CPF são inválidos.");
+
+    private static final int DIGITS = 11;
+    private static final int FORMATTED_LENGTH = 14;
+
+    public final String value;
+
+    public static CpfValidationResult validate(CharSequence cpf) {
+        if (cpf == null || cpf.isEmpty()) return EMPTY;
+
+        var length = cpf.length();
+
+        if (length != DIGITS && length != FORMATTED_LENGTH) return INVALID_FORMAT;
+
+        var formatted = length == FORMATTED_LENGTH;
+        var firstSum = 0;
+        var secondSum = 0;
+        var firstCheckDigit = 0;
+        var secondCheckDigit = 0;
+        var firstDigit = -1;
+        var repeated = true;
+        var position = 0;
+
+        for (int i = 0; i < length; i++) {
+            var c = cpf.charAt(i);
+
+            if (formatted && (i == 3 || i == 7)) {
+                if (c != '.') return INVALID_FORMAT;
+                continue;
+            }
+            if (formatted && i == 11) {
+                if (c != '-') return INVALID_FORMAT;
+                continue;
+            }
+            if (c < '0' || c > '9') return INVALID_FORMAT;
+
+            var digit = c - '0';
+
+            if (firstDigit < 0) firstDigit = digit;
+            if (digit != firstDigit) repeated = false;
+
+            if (position < 9) {
+                firstSum += digit * (10 - position);
+                secondSum += digit * (11 - position);
+            } else if (position == 9) {
+                firstCheckDigit = digit;
+                secondSum += digit * 2;
+            } else {
+                secondCheckDigit = digit;
+            }
+            position++;
+        }
+        if (repeated) return REPEATED_DIGITS;
+
+        if (firstCheckDigit != checkDigit(firstSum) || secondCheckDigit != checkDigit(secondSum)) {
+            return INVALID_CHECK_DIGITS;
+        }
+        return VALID;
+    }
+
+    public static String format(CharSequence cpf) {
+        if (validate(cpf) != VALID) return null;
+        if (cpf.length() == FORMATTED_LENGTH) return cpf.toString();
+
+        var formatted = new char[FORMATTED_LENGTH];
+        var position = 0;
+
+        for (int i = 0; i < FORMATTED_LENGTH; i++) {
+            if (i == 3 || i == 7) {
+                formatted[i] = '.';
+            } else if (i == 11) {
+                formatted[i] = '-';
+            } else {
+                formatted[i] = cpf.charAt(position++);
+            }
+        }
+        return new String(formatted);
+    }
+
+    public static String generate(long base) {
+        if (base < 0 || base > 999_999_999) {
+            throw new IllegalArgumentException("A base do CPF deve conter no máximo 9 dígitos.");
+        }
+        var digits = new char[DIGITS];
+        var firstSum = 0;
+        var secondSum = 0;
+
+        for (int position = 8; position >= 0; position--) {
+            digits[position] = (char) ('0' + base % 10);
+            base /= 10;
+        }
+        for (int position = 0; position < 9; position++) {
+            var digit = digits[position] - '0';
+
+            firstSum += digit * (10 - position);
+            secondSum += digit * (11 - position);
+        }
+        var firstCheckDigit = checkDigit(firstSum);
+
+        digits[9] = (char) ('0' + firstCheckDigit);
+        digits[10] = (char) ('0' + checkDigit(secondSum + firstCheckDigit * 2));
+
+        return format(new String(digits));
+    }
+
+    private static int checkDigit(int sum) {
+        var remainder = sum % 11;
+        return (remainder < 2) ? 0 : 11 - remainder;
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.bristotartur.cedupscore_api.enums;
+
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,4 @@
+package com.bristotartur.cedupscore_api.events;
+
+public record EditionDeletedEvent(Long editionId) {
+}
@@ -0,0 +1,6 @@
+package com.bristotartur.cedupscore_api.events;
+
+import com.bristotartur.cedupscore_api.enums.Status;
+
+public record EditionStatusChangedEvent(Long editionId, Status status) {
+}
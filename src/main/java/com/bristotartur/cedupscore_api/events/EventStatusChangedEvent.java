@@ -0,0 +1,15 @@
+package com.bristotartur.cedupscore_api.events;
+
+import com.bristotartur.cedupscore_api.enums.Status;
+
+import java.time.LocalDateTime;
+
+public record EventStatusChangedEvent(
+        Long editionId,
+        Long eventId,
+        String name,
+        Status status,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt
+) {
+}
@@ -0,0 +1,25 @@
+package com.bristotartur.cedupscore_api.events;
+
+import java.util.Collection;
+import java.util.Set;
+
+// participantIds is null when the change is too broad to list (e.g. a cleanup), so listeners reload everything.
+public record ParticipantsChangedEvent(Set<Long> participantIds) {
+
+    public static ParticipantsChangedEvent of(Long participantId) {
+        return new ParticipantsChangedEvent(Set.of(participantId));
+    }
+
+    public static ParticipantsChangedEvent of(Collection<Long> participantIds) {
+        return new ParticipantsChangedEvent(Set.copyOf(participantIds));
+    }
+
+    public static ParticipantsChangedEvent bulk() {
+        return new ParticipantsChangedEvent(null);
+    }
+
+    public boolean isBulk() {
+        return participantIds == null;
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.bristotartur.cedupscore_api.events;
+
+import java.util.List;
+
+public record TeamScoresUpdatedEvent(Long editionId, Long eventId, List<Delta> deltas) {
+
+    public record Delta(Long teamId, int score, int tasksWon, int sportsWon) {
+    }
+
+}
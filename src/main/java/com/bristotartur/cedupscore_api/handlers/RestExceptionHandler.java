@@ -4,6 +4,7 @@ import com.bristotartur.cedupscore_api.exceptions.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -111,4 +112,28 @@ public class RestExceptionHandler {
                 .build(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionDetails> handleServiceUnavailableException(ServiceUnavailableException e) {
+
+        return new ResponseEntity<>(ExceptionDetails.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .title("Service Unavailable.")
+                .details(e.getMessage())
+                .developerMessage(e.getClass().getName())
+                .build(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ExceptionDetails> handleCannotCreateTransactionException(CannotCreateTransactionException e) {
+
+        return new ResponseEntity<>(ExceptionDetails.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .title("Service Unavailable.")
+                .details("Não foi possível obter uma conexão com o banco de dados. Tente novamente em instantes.")
+                .developerMessage(e.getClass().getName())
+                .build(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.bristotartur.cedupscore_api.infra.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor() {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) return bean;
+
+                hikari.validate();
+                return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+            }
+        };
+    }
+
+    @Bean
+    public Gauge connectionLimiterQueueGauge(DataSource dataSource, MeterRegistry meterRegistry) throws SQLException {
+        var limiter = dataSource.unwrap(ConnectionLimitingDataSource.class);
+
+        return Gauge.builder("db.connection.limiter.queued", limiter, ConnectionLimitingDataSource::getQueueLength)
+                .description("Threads waiting for a database connection permit")
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.bristotartur.cedupscore_api.infra.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class SequenceSynchronizer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.synchronize();
+    }
+
+    public void synchronize() {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(descriptor -> {
+            if (!(descriptor instanceof AbstractEntityPersister persister)) return;
+            if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)) return;
+
+            var structure = generator.getDatabaseStructure();
+            var sequence = structure.getPhysicalName().render();
+            var maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(%s), 0) FROM %s".formatted(
+                    persister.getIdentifierColumnNames()[0], persister.getTableName()
+            ), Long.class);
+
+            if (maxId == null || maxId == 0) return;
+
+            var nextValue = maxId + structure.getIncrementSize();
+
+            if (structure.isPhysicalSequence()) {
+                var currentValue = this.findNextValue(structure.getPhysicalName().getObjectName().getText());
+
+                if (currentValue.isPresent() && currentValue.get() < nextValue) {
+                    jdbcTemplate.execute("ALTER SEQUENCE %s RESTART WITH %d".formatted(sequence, nextValue));
+                }
+            } else {
+                jdbcTemplate.update("UPDATE %s SET next_val = ? WHERE next_val < ?".formatted(sequence), nextValue, nextValue);
+            }
+        });
+    }
+
+    // Reads the value the sequence will hand out next from the catalog instead of calling NEXT VALUE FOR, which
+    // would burn an id on every startup.
+    private Optional<Long> findNextValue(String sequenceName) {
+        return jdbcTemplate.queryForList(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                Long.class, sequenceName
+        ).stream().findFirst();
+    }
+
+}
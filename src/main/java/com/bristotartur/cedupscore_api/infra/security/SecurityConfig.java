@@ -55,6 +55,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/teams/**").hasAnyAuthority("SCOPE_SUPER_ADMIN", "SCOPE_EDITION_ADMIN")
                         .requestMatchers("/api/v1/participants/**").hasAnyAuthority("SCOPE_SUPER_ADMIN", "SCOPE_EDITION_ADMIN")
                         .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("SCOPE_SUPER_ADMIN")
                         .anyRequest().authenticated())
                 .csrf(AbstractHttpConfigurer::disable)
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
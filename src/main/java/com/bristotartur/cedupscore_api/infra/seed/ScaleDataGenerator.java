@@ -0,0 +1,336 @@
+package com.bristotartur.cedupscore_api.infra.seed;
+
+import com.bristotartur.cedupscore_api.domain.Participant;
+import com.bristotartur.cedupscore_api.enums.*;
+import com.bristotartur.cedupscore_api.infra.persistence.SequenceSynchronizer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Component
+@Profile("scale")
+@RequiredArgsConstructor
+public class ScaleDataGenerator implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final long CPF_BASE = 950_000_000L;
+    private static final int[] TASK_SCORES = {50, 40, 30, 20, 10};
+    private static final int[] SPORT_SCORES = {100, 90, 80, 70, 50};
+    private static final ExtraType[] SPORTS = {
+            ExtraType.BASKETBALL, ExtraType.CHESS, ExtraType.FUTSAL, ExtraType.HANDBALL, ExtraType.VOLLEYBALL, ExtraType.TABLE_TENNIS
+    };
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Artur", "Beatriz", "Bruno", "Caio", "Camila", "Davi", "Eduarda", "Enzo", "Fernanda", "Gabriel", "Giovana",
+            "Heitor", "Helena", "Isabela", "João", "Júlia", "Lara", "Lucas", "Luíza", "Márcia", "Mateus", "Miguel", "Otávio",
+            "Patrícia", "Pedro", "Rafael", "Sophia", "Thiago", "Valentina"
+    };
+    private static final String[] LAST_NAMES = {
+            "Almeida", "Araújo", "Barbosa", "Bristot", "Cardoso", "Conceição", "Costa", "da Rosa", "da Silva", "de Souza",
+            "Fernandes", "Gomes", "Gonçalves", "Lima", "Martins", "Mendes", "Oliveira", "Pereira", "Ribeiro", "Rocha",
+            "Santos", "Schmitt", "Vieira", "Zanette"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceSynchronizer sequenceSynchronizer;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${api.seed.scale.editions}")
+    private Integer editions;
+
+    @Value("${api.seed.scale.participants-per-edition}")
+    private Integer participantsPerEdition;
+
+    @Value("${api.seed.scale.events-per-edition}")
+    private Integer eventsPerEdition;
+
+    @Value("${api.seed.scale.registration-density}")
+    private Double registrationDensity;
+
+    @Value("${api.seed.scale.random-seed}")
+    private Long randomSeed;
+
+    // Each step commits on its own, so a large seed never sits in one open transaction. A database that already
+    // holds a full roster is left untouched, and new editions start after the latest existing year so that every
+    // edition keeps a distinct year. The rows are written with plain JDBC, which bypasses Hibernate, so the
+    // second-level cache is evicted at the end instead of keeping teams, editions or query results read before the seed.
+    @Override
+    public void run(ApplicationArguments args) {
+        var participants = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_participant", Long.class);
+
+        if (participants >= participantsPerEdition) return;
+
+        var random = new SplittableRandom(randomSeed);
+        var userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM tb_user", Long.class);
+
+        if (userId == null) {
+            throw new IllegalStateException("É necessário existir ao menos um usuário para gerar os dados de escala.");
+        }
+        var teams = transactionTemplate.execute(status -> this.findOrCreateTeams());
+        var turnover = Math.max(participantsPerEdition / 3, 1);
+        var pool = transactionTemplate.execute(status ->
+                this.generateParticipants(random, teams, participantsPerEdition + (editions - 1) * turnover, (editions - 1) * turnover)
+        );
+        var hasOpenEdition = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_edition WHERE status IN (?, ?)", Long.class, Status.SCHEDULED.name(), Status.IN_PROGRESS.name()
+        ) > 0;
+        var ids = new IdAllocator();
+        var firstYear = this.findFirstYear();
+
+        for (int edition = 0; edition < editions; edition++) {
+            var rosterStart = edition * turnover;
+            var year = firstYear + edition;
+            var open = !hasOpenEdition && edition == editions - 1;
+
+            transactionTemplate.executeWithoutResult(status ->
+                    this.generateEdition(random, ids, pool, teams, userId, rosterStart, year, open)
+            );
+        }
+        sequenceSynchronizer.synchronize();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private int findFirstYear() {
+        var lastYear = jdbcTemplate.queryForObject("SELECT MAX(YEAR(start_date)) FROM tb_edition", Integer.class);
+
+        return (lastYear != null) ? lastYear + 1 : LocalDateTime.now().getYear() - editions + 1;
+    }
+
+    private long[] findOrCreateTeams() {
+        var teams = jdbcTemplate.queryForList("SELECT id FROM tb_team WHERE is_active = true ORDER BY id", Long.class);
+
+        if (!teams.isEmpty()) return teams.stream().mapToLong(Long::longValue).toArray();
+
+        var firstId = this.nextId("tb_team");
+        var created = new long[5];
+
+        for (int i = 0; i < created.length; i++) {
+            created[i] = firstId + i;
+            jdbcTemplate.update(
+                    "INSERT INTO tb_team (id, name, logo_url, is_active) VALUES (?, ?, ?, ?)",
+                    created[i], "Equipe " + (i + 1), "EQUIPE_" + (i + 1), true
+            );
+        }
+        return created;
+    }
+
+    private ParticipantPool generateParticipants(SplittableRandom random, long[] teams, int size, int activeFrom) {
+        var types = ParticipantType.values();
+        var firstId = this.nextId("tb_participant");
+        var pool = new ParticipantPool(new long[size], new Gender[size], new ParticipantType[size], new long[size]);
+        var participants = new BatchWriter("INSERT INTO tb_participant (id, name, search_name, cpf, gender, type, is_active) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        var grams = new BatchWriter("INSERT INTO tb_participant_name_gram (participant_id, gram) VALUES (?, ?)", participants);
+
+        for (int i = 0; i < size; i++) {
+            var id = firstId + i;
+            var gender = random.nextInt(100) < 52 ? Gender.FEMALE : Gender.MALE;
+            var roll = random.nextInt(100);
+            var type = (roll < 80) ? ParticipantType.STUDENT
+                    : (roll < 88) ? ParticipantType.PARENT
+                    : (roll < 95) ? ParticipantType.TEACHER
+                    : types[3 + random.nextInt(3)];
+            var name = "%s %s %s".formatted(
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+            ).toUpperCase();
+            var searchName = Participant.normalizeName(name);
+
+            pool.ids()[i] = id;
+            pool.genders()[i] = gender;
+            pool.types()[i] = type;
+            pool.teams()[i] = teams[random.nextInt(teams.length)];
+
+            participants.add(id, name, searchName, CpfValidationResult.generate(CPF_BASE + id), gender.name(), type.name(), i >= activeFrom);
+            Participant.createNameGrams(searchName).forEach(gram -> grams.add(id, gram));
+        }
+        grams.flush();
+
+        return pool;
+    }
+
+    private void generateEdition(SplittableRandom random, IdAllocator ids, ParticipantPool pool, long[] teams,
+                                 Long userId, int rosterStart, int year, boolean open) {
+        var editionId = ids.next("tb_edition");
+        var startDate = LocalDateTime.of(year, 4, 1, 8, 0);
+        var closingDate = LocalDateTime.of(year, 8, 9, 18, 0);
+        var editionRegistrations = new BatchWriter("INSERT INTO tb_edition_registration (id, participant_id, team_id, edition_id, created_at) VALUES (?, ?, ?, ?, ?)");
+        var rosters = new ArrayList<List<Integer>>();
+
+        jdbcTemplate.update(
+                "INSERT INTO tb_edition (id, status, start_date, closing_date) VALUES (?, ?, ?, ?)",
+                editionId, (open ? Status.IN_PROGRESS : Status.ENDED).name(), startDate, closingDate
+        );
+        for (int team = 0; team < teams.length; team++) {
+            rosters.add(new ArrayList<>());
+        }
+        for (int i = rosterStart; i < rosterStart + participantsPerEdition; i++) {
+            rosters.get(this.indexOf(teams, pool.teams()[i])).add(i);
+            editionRegistrations.add(ids.next("tb_edition_registration"), pool.ids()[i], pool.teams()[i], editionId, startDate);
+        }
+        editionRegistrations.flush();
+
+        var teamTotals = new int[teams.length][3];
+        var events = new BatchWriter("""
+                INSERT INTO tb_event (id, name, type, status, extra_type, allowed_participant_type, modality,
+                    min_participants_per_team, max_participants_per_team, started_at, ended_at, edition_id, responsible_user_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """);
+        var scores = new BatchWriter("INSERT INTO tb_event_score (id, score, team_id, event_id) VALUES (?, ?, ?, ?)", events);
+        var eventRegistrations = new BatchWriter("INSERT INTO tb_event_registration (id, participant_id, team_id, event_id) VALUES (?, ?, ?, ?)", events);
+
+        for (int event = 0; event < eventsPerEdition; event++) {
+            var eventId = ids.next("tb_event");
+            var sport = random.nextInt(100) < 30;
+            var extraType = sport ? SPORTS[random.nextInt(SPORTS.length)] : this.randomTaskType(random);
+            var modality = sport ? Modality.values()[random.nextInt(3)] : Modality.MIXED;
+            var allowedType = sport ? ParticipantType.STUDENT : ParticipantType.ALL;
+            var status = this.eventStatus(random, open);
+            var startedAt = startDate.plusDays(random.nextInt(120)).plusHours(random.nextInt(8));
+            var perTeam = Math.max(1, (int) Math.round(participantsPerEdition * registrationDensity / teams.length));
+            var name = (sport ? extraType.value : "Tarefa") + " " + (event + 1);
+
+            events.add(
+                    eventId, name, (sport ? EventType.SPORT : EventType.TASK).name(), status.name(), extraType.name(),
+                    allowedType.name(), modality.name(), 1, perTeam, startedAt, startedAt.plusHours(2), editionId, userId
+            );
+            var points = this.shuffledScores(random, (sport || extraType == ExtraType.CULTURAL) ? SPORT_SCORES : TASK_SCORES, teams.length);
+            var maxPoints = points[0];
+
+            for (int team = 0; team < teams.length; team++) {
+                var ended = status == Status.ENDED;
+
+                maxPoints = Math.max(maxPoints, points[team]);
+                scores.add(ids.next("tb_event_score"), ended ? points[team] : 0, teams[team], eventId);
+            }
+            for (int team = 0; team < teams.length; team++) {
+                if (status == Status.ENDED) {
+                    teamTotals[team][0] += points[team];
+                    if (points[team] == maxPoints) teamTotals[team][sport ? 2 : 1]++;
+                }
+                if (status == Status.SCHEDULED) continue;
+
+                var roster = rosters.get(team);
+                var registered = 0;
+                var offset = roster.isEmpty() ? 0 : random.nextInt(roster.size());
+
+                for (int i = 0; i < roster.size() && registered < perTeam; i++) {
+                    var participant = roster.get((offset + i) % roster.size());
+
+                    if (!Modality.compareCategory(modality, pool.genders()[participant])) continue;
+                    if (!ParticipantType.compareTypes(allowedType, pool.types()[participant])) continue;
+
+                    eventRegistrations.add(ids.next("tb_event_registration"), pool.ids()[participant], teams[team], eventId);
+                    registered++;
+                }
+            }
+        }
+        scores.flush();
+        eventRegistrations.flush();
+
+        var teamScores = new BatchWriter("INSERT INTO tb_team_score (id, score, team_id, tasks_won, sports_won, edition_id) VALUES (?, ?, ?, ?, ?, ?)");
+
+        for (int team = 0; team < teams.length; team++) {
+            var totals = teamTotals[team];
+            teamScores.add(ids.next("tb_team_score"), totals[0], teams[team], totals[1], totals[2], editionId);
+        }
+        teamScores.flush();
+    }
+
+    private ExtraType randomTaskType(SplittableRandom random) {
+        var roll = random.nextInt(100);
+        return (roll < 70) ? ExtraType.NORMAL : (roll < 85) ? ExtraType.COMPLETION : ExtraType.CULTURAL;
+    }
+
+    private Status eventStatus(SplittableRandom random, boolean open) {
+        if (!open) return Status.ENDED;
+
+        var roll = random.nextInt(100);
+        return (roll < 60) ? Status.ENDED : (roll < 80) ? Status.IN_PROGRESS : Status.SCHEDULED;
+    }
+
+    private int[] shuffledScores(SplittableRandom random, int[] possibleScores, int teams) {
+        var points = new int[teams];
+
+        for (int i = 0; i < teams; i++) {
+            points[i] = possibleScores[Math.min(i, possibleScores.length - 1)];
+        }
+        for (int i = teams - 1; i > 0; i--) {
+            var j = random.nextInt(i + 1);
+            var swap = points[i];
+
+            points[i] = points[j];
+            points[j] = swap;
+        }
+        return points;
+    }
+
+    private int indexOf(long[] teams, long teamId) {
+        for (int i = 0; i < teams.length; i++) {
+            if (teams[i] == teamId) return i;
+        }
+        throw new IllegalArgumentException("Equipe %d não encontrada.".formatted(teamId));
+    }
+
+    private long nextId(String table) {
+        var maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM %s".formatted(table), Long.class);
+        return maxId + 1;
+    }
+
+    private record ParticipantPool(long[] ids, Gender[] genders, ParticipantType[] types, long[] teams) {
+    }
+
+    private class IdAllocator {
+
+        private final Map<String, Long> nextIds = new HashMap<>();
+
+        private long next(String table) {
+            var id = nextIds.computeIfAbsent(table, ScaleDataGenerator.this::nextId);
+
+            nextIds.put(table, id + 1);
+            return id;
+        }
+
+    }
+
+    private class BatchWriter {
+
+        private final String sql;
+        private final BatchWriter parent;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private BatchWriter(String sql) {
+            this(sql, null);
+        }
+
+        private BatchWriter(String sql, BatchWriter parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) this.flush();
+        }
+
+        private void flush() {
+            if (parent != null) parent.flush();
+            if (rows.isEmpty()) return;
+
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+
+    }
+
+}
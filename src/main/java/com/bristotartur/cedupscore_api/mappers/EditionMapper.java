@@ -1,6 +1,7 @@
 package com.bristotartur.cedupscore_api.mappers;
 
 import com.bristotartur.cedupscore_api.domain.Edition;
+import com.bristotartur.cedupscore_api.dtos.projections.EditionSummary;
 import com.bristotartur.cedupscore_api.dtos.response.EditionResponseDto;
 import com.bristotartur.cedupscore_api.dtos.response.TeamScoreResponseDto;
 import org.mapstruct.Mapper;
@@ -17,4 +18,7 @@ public interface EditionMapper {
     @Mapping(target = "teamsScores", source = "scoreResponseDtos")
     EditionResponseDto toEditionResponseDto(Edition edition, List<TeamScoreResponseDto> scoreResponseDtos);
 
+    @Mapping(target = "teamsScores", source = "scoreResponseDtos")
+    EditionResponseDto toEditionResponseDto(EditionSummary edition, List<TeamScoreResponseDto> scoreResponseDtos);
+
 }
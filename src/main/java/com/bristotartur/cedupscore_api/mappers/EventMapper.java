@@ -3,6 +3,7 @@ package com.bristotartur.cedupscore_api.mappers;
 import com.bristotartur.cedupscore_api.domain.Edition;
 import com.bristotartur.cedupscore_api.domain.Event;
 import com.bristotartur.cedupscore_api.domain.User;
+import com.bristotartur.cedupscore_api.dtos.projections.EventSummary;
 import com.bristotartur.cedupscore_api.dtos.request.SportEventRequestDto;
 import com.bristotartur.cedupscore_api.dtos.request.TaskEventRequestDto;
 import com.bristotartur.cedupscore_api.dtos.response.EventScoreResponseDto;
@@ -83,4 +84,10 @@ public interface EventMapper {
     @Mapping(target = "responsibleUserId", source = "event.responsibleUser.id")
     SportEventResponseDto toSportEventResponseDto(Event event, List<EventScoreResponseDto> scores);
 
+    @Mapping(target = "taskType", source = "event.extraType")
+    TaskEventResponseDto toTaskEventResponseDto(EventSummary event, List<EventScoreResponseDto> scores);
+
+    @Mapping(target = "sportType", source = "event.extraType")
+    SportEventResponseDto toSportEventResponseDto(EventSummary event, List<EventScoreResponseDto> scores);
+
 }
@@ -1,6 +1,7 @@
 package com.bristotartur.cedupscore_api.mappers;
 
 import com.bristotartur.cedupscore_api.domain.Participant;
+import com.bristotartur.cedupscore_api.dtos.projections.ParticipantSummary;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantCSVDto;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantRequestDto;
 import com.bristotartur.cedupscore_api.dtos.response.*;
@@ -16,14 +17,20 @@ public interface ParticipantMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "isActive", constant = "true")
+    @Mapping(target = "searchName", ignore = true)
+    @Mapping(target = "nameGrams", ignore = true)
     Participant toNewParticipant(ParticipantRequestDto dto);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "gender", source = "gender")
     @Mapping(target = "type", source = "type")
     @Mapping(target = "isActive", constant = "true")
+    @Mapping(target = "searchName", ignore = true)
+    @Mapping(target = "nameGrams", ignore = true)
     Participant toNewParticipant(ParticipantCSVDto dto, Gender gender, ParticipantType type);
 
+    @Mapping(target = "searchName", ignore = true)
+    @Mapping(target = "nameGrams", ignore = true)
     Participant toExistingParticipant(Long id, ParticipantRequestDto dto, Boolean isActive);
 
     default ParticipantResponseDto toParticipantResponseDto(
@@ -60,6 +67,38 @@ public interface ParticipantMapper {
                 .build();
     }
 
+    default ParticipantResponseDto toParticipantResponseDto(
+            ParticipantSummary participant,
+            List<EditionRegistrationResponseDto> editionRegistrations
+    ) {
+        return ParticipantResponseDto.builder()
+                .id(participant.id())
+                .name(participant.name())
+                .cpf("")
+                .type(participant.type())
+                .gender(participant.gender())
+                .isActive(participant.isActive())
+                .editionRegistrations(editionRegistrations)
+                .build();
+    }
+
+    default ParticipantResponseDto toParticipantResponseDto(
+            ParticipantSummary participant,
+            List<EditionRegistrationResponseDto> editionRegistrations,
+            EventRegistrationResponseDto eventRegistration
+    ) {
+        return ParticipantWithEventRegistrationDto.builder()
+                .id(participant.id())
+                .name(participant.name())
+                .cpf("")
+                .type(participant.type())
+                .gender(participant.gender())
+                .isActive(participant.isActive())
+                .eventRegistration(eventRegistration)
+                .editionRegistrations(editionRegistrations)
+                .build();
+    }
+
     @Mapping(target = "gender", source = "participant.gender.value")
     @Mapping(target = "type", source = "participant.type.value")
     @Mapping(target = "teamId", ignore = true)
@@ -6,6 +6,8 @@ import com.bristotartur.cedupscore_api.domain.Participant;
 import com.bristotartur.cedupscore_api.domain.Team;
 import com.bristotartur.cedupscore_api.domain.EditionRegistration;
 import com.bristotartur.cedupscore_api.domain.EventRegistration;
+import com.bristotartur.cedupscore_api.dtos.projections.EditionRegistrationSummary;
+import com.bristotartur.cedupscore_api.dtos.projections.EventRegistrationSummary;
 import com.bristotartur.cedupscore_api.dtos.response.EditionRegistrationResponseDto;
 import com.bristotartur.cedupscore_api.dtos.response.EventRegistrationResponseDto;
 import com.bristotartur.cedupscore_api.dtos.response.TeamResponseDto;
@@ -23,6 +25,10 @@ public interface RegistrationMapper {
     @Mapping(target = "team", source = "teamDto")
     EditionRegistrationResponseDto toEditionRegistrationResponseDto(EditionRegistration registration, TeamResponseDto teamDto);
 
+    @Mapping(target = "id", source = "registration.id")
+    @Mapping(target = "team", source = "teamDto")
+    EditionRegistrationResponseDto toEditionRegistrationResponseDto(EditionRegistrationSummary registration, TeamResponseDto teamDto);
+
     @Mapping(target = "id", ignore = true)
     EventRegistration toNewEventRegistration(Participant participant, Event event, Team team);
 
@@ -31,4 +37,8 @@ public interface RegistrationMapper {
     @Mapping(target = "team", source = "teamDto")
     EventRegistrationResponseDto toEventRegistrationResponseDto(EventRegistration registration, TeamResponseDto teamDto);
 
+    @Mapping(target = "id", source = "registration.id")
+    @Mapping(target = "team", source = "teamDto")
+    EventRegistrationResponseDto toEventRegistrationResponseDto(EventRegistrationSummary registration, TeamResponseDto teamDto);
+
 }
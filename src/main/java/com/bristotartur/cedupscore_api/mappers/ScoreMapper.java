@@ -1,6 +1,7 @@
 package com.bristotartur.cedupscore_api.mappers;
 
 import com.bristotartur.cedupscore_api.domain.*;
+import com.bristotartur.cedupscore_api.dtos.projections.EventScoreSummary;
 import com.bristotartur.cedupscore_api.dtos.request.EventScoreRequestDto;
 import com.bristotartur.cedupscore_api.dtos.response.EventScoreResponseDto;
 import com.bristotartur.cedupscore_api.dtos.response.TeamResponseDto;
@@ -32,4 +33,8 @@ public interface ScoreMapper {
     @Mapping(target = "team", source = "teamDto")
     EventScoreResponseDto toEventScoreResponseDto(EventScore score, TeamResponseDto teamDto);
 
+    @Mapping(target = "id", source = "score.id")
+    @Mapping(target = "team", source = "teamDto")
+    EventScoreResponseDto toEventScoreResponseDto(EventScoreSummary score, TeamResponseDto teamDto);
+
 }
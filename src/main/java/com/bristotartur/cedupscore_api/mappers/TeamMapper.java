@@ -17,4 +17,8 @@ public interface TeamMapper {
 
     TeamResponseDto toTeamResponseDto(Team team);
 
+    default TeamResponseDto toTeamResponseDto(Long id, String name, String logoUrl, Boolean isActive) {
+        return new TeamResponseDto(id, name, logoUrl, isActive);
+    }
+
 }
@@ -1,9 +1,49 @@
 package com.bristotartur.cedupscore_api.repositories;
 
 import com.bristotartur.cedupscore_api.domain.EditionRegistration;
+import com.bristotartur.cedupscore_api.dtos.projections.EditionRegistrationSummary;
+import com.bristotartur.cedupscore_api.dtos.response.ParticipantSuggestionDto;
+import com.bristotartur.cedupscore_api.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface EditionRegistrationRepository extends JpaRepository<EditionRegistration, Long> {
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.EditionRegistrationSummary(
+            er.id, er.participant.id, er.edition.id, er.createdAt, t.id, t.name, t.logoUrl, t.isActive
+        )
+        FROM EditionRegistration er
+        JOIN er.team t
+        WHERE
+            er.participant.id IN :participantsIds
+    """)
+    List<EditionRegistrationSummary> findSummariesByParticipantIdIn(@Param("participantsIds") Collection<Long> participantsIds);
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.response.ParticipantSuggestionDto(p.id, p.name, t.id, t.name)
+        FROM EditionRegistration er
+        JOIN er.participant p
+        JOIN er.team t
+        WHERE
+            er.edition.status NOT IN :statuses AND p.isActive = true
+    """)
+    List<ParticipantSuggestionDto> findSuggestionsByEditionStatusNotIn(@Param("statuses") Collection<Status> statuses);
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.response.ParticipantSuggestionDto(p.id, p.name, t.id, t.name)
+        FROM EditionRegistration er
+        JOIN er.participant p
+        JOIN er.team t
+        WHERE
+            p.id IN :participantsIds AND er.edition.status NOT IN :statuses AND p.isActive = true
+    """)
+    List<ParticipantSuggestionDto> findSuggestionsByParticipantIdInAndEditionStatusNotIn(@Param("participantsIds") Collection<Long> participantsIds, @Param("statuses") Collection<Status> statuses);
+
 }
@@ -1,9 +1,13 @@
 package com.bristotartur.cedupscore_api.repositories;
 
 import com.bristotartur.cedupscore_api.domain.Edition;
+import com.bristotartur.cedupscore_api.dtos.projections.EditionSummary;
 import com.bristotartur.cedupscore_api.enums.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,15 +17,26 @@ import java.util.Optional;
 @Repository
 public interface EditionRepository extends JpaRepository<Edition, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM Edition e ORDER BY e.startDate DESC")
     List<Edition> findAllDescending();
 
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.EditionSummary(e.id, e.status, e.startDate, e.closingDate)
+        FROM Edition e
+        ORDER BY e.startDate DESC
+    """)
+    List<EditionSummary> findAllSummariesDescending();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM Edition e WHERE YEAR(e.startDate) = :year")
     Optional<Edition> findByYear(@Param("year") Integer year);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM Edition e WHERE e.status IN :statuses")
     List<Edition> findByStatus(@Param("statuses") List<Status> status);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT e FROM Edition e WHERE e.status NOT IN :statuses")
     List<Edition> findByStatusNotIn(@Param("statuses") List<Status> statuses);
 
@@ -0,0 +1,17 @@
+package com.bristotartur.cedupscore_api.repositories;
+
+import com.bristotartur.cedupscore_api.domain.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface EventQueryRepository {
+
+    Page<Long> findAllIds(Specification<Event> spec, Pageable pageable);
+
+    List<Long> findIds(Specification<Event> spec, Sort sort, long offset, int limit);
+
+}
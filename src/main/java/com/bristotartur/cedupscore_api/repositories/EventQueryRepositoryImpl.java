@@ -0,0 +1,28 @@
+package com.bristotartur.cedupscore_api.repositories;
+
+import com.bristotartur.cedupscore_api.domain.Event;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class EventQueryRepositoryImpl implements EventQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Long> findAllIds(Specification<Event> spec, Pageable pageable) {
+        return IdPageQueries.findAllIds(entityManager, Event.class, spec, pageable);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Event> spec, Sort sort, long offset, int limit) {
+        return IdPageQueries.findIds(entityManager, Event.class, spec, sort, offset, limit);
+    }
+
+}
@@ -1,9 +1,72 @@
 package com.bristotartur.cedupscore_api.repositories;
 
 import com.bristotartur.cedupscore_api.domain.EventRegistration;
+import com.bristotartur.cedupscore_api.dtos.projections.EventRegistrationOwnership;
+import com.bristotartur.cedupscore_api.dtos.projections.EventRegistrationSummary;
+import com.bristotartur.cedupscore_api.dtos.projections.TeamRegistrationCount;
+import com.bristotartur.cedupscore_api.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EventRegistrationRepository extends JpaRepository<EventRegistration, Long> {
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.EventRegistrationSummary(
+            er.id, er.participant.id, er.event.id, t.id, t.name, t.logoUrl, t.isActive
+        )
+        FROM EventRegistration er
+        JOIN er.team t
+        WHERE
+            er.event.id = :eventId AND er.participant.id IN :participantsIds
+    """)
+    List<EventRegistrationSummary> findSummariesByEventIdAndParticipantIdIn(@Param("eventId") Long eventId,
+                                                                           @Param("participantsIds") Collection<Long> participantsIds);
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.TeamRegistrationCount(er.team.id, COUNT(er))
+        FROM EventRegistration er
+        WHERE
+            er.event.id = :eventId
+        GROUP BY er.team.id
+    """)
+    List<TeamRegistrationCount> countByEventIdGroupByTeam(@Param("eventId") Long eventId);
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.EventRegistrationOwnership(e.status, COUNT(er.id))
+        FROM Event e
+        LEFT JOIN e.registrations er ON er.id IN :ids
+        WHERE
+            e.id = :eventId
+        GROUP BY e.status
+    """)
+    Optional<EventRegistrationOwnership> findOwnershipByEventIdAndIdIn(@Param("eventId") Long eventId,
+                                                                       @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+        DELETE FROM EventRegistration er
+        WHERE
+            er.id IN :ids AND er.event.id = :eventId
+            AND EXISTS (SELECT e.id FROM Event e WHERE e.id = :eventId AND e.status = :status)
+    """)
+    int deleteByEventIdAndIdIn(@Param("eventId") Long eventId,
+                               @Param("status") Status status,
+                               @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+        DELETE FROM EventRegistration er
+        WHERE
+            NOT EXISTS (SELECT edr.id FROM EditionRegistration edr WHERE edr.participant = er.participant)
+    """)
+    int deleteAllWithoutEditionRegistration();
+
 }
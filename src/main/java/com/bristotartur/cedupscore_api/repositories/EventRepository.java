@@ -1,19 +1,50 @@
 package com.bristotartur.cedupscore_api.repositories;
 
 import com.bristotartur.cedupscore_api.domain.Event;
+import com.bristotartur.cedupscore_api.dtos.projections.EventSummary;
 import com.bristotartur.cedupscore_api.enums.EventType;
+import com.bristotartur.cedupscore_api.enums.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>, EventQueryRepository {
 
     @Query("SELECT e FROM Event e WHERE e.id = :id AND e.type = :type")
     Optional<Event> findEventByIdAndType(@Param("id") Long id, @Param("type") EventType type);
 
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.EventSummary(
+            e.id, e.name, e.type, e.extraType, e.status, e.allowedParticipantType, e.modality,
+            e.minParticipantsPerTeam, e.maxParticipantsPerTeam, e.description, e.startedAt, e.endedAt,
+            e.edition.id, e.responsibleUser.id
+        )
+        FROM Event e
+        WHERE
+            e.id IN :ids
+    """)
+    List<EventSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+        UPDATE Event e
+        SET
+            e.status = :status, e.endedAt = :endedAt
+        WHERE
+            e.id = :id AND e.status = :expectedStatus
+    """)
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expectedStatus") Status expectedStatus,
+                            @Param("status") Status status,
+                            @Param("endedAt") LocalDateTime endedAt);
+
 }
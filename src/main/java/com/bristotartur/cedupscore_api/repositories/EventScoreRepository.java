@@ -1,9 +1,27 @@
 package com.bristotartur.cedupscore_api.repositories;
 
 import com.bristotartur.cedupscore_api.domain.EventScore;
+import com.bristotartur.cedupscore_api.dtos.projections.EventScoreSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface EventScoreRepository extends JpaRepository<EventScore, Long> {
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.EventScoreSummary(
+            es.id, es.event.id, es.score, t.id, t.name, t.logoUrl, t.isActive
+        )
+        FROM EventScore es
+        JOIN es.team t
+        WHERE
+            es.event.id IN :eventsIds
+    """)
+    List<EventScoreSummary> findSummariesByEventIdIn(@Param("eventsIds") Collection<Long> eventsIds);
+
 }
@@ -5,6 +5,8 @@ import com.bristotartur.cedupscore_api.enums.EventType;
 import jakarta.persistence.criteria.JoinType;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+
 public final class EventSpecifications {
     
     private EventSpecifications() {
@@ -49,4 +51,19 @@ public final class EventSpecifications {
         };
     }
 
-}
\ No newline at end of file
+    public static Specification<Event> startedBefore(LocalDateTime startedAt, Long id) {
+
+        return (root, query, criteria) -> {
+            if (id == null) return null;
+
+            var startedAtPath = root.<LocalDateTime>get("startedAt");
+            var idPath = root.<Long>get("id");
+
+            return criteria.or(
+                    criteria.lessThan(startedAtPath, startedAt),
+                    criteria.and(criteria.equal(startedAtPath, startedAt), criteria.lessThan(idPath, id))
+            );
+        };
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.bristotartur.cedupscore_api.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class IdPageQueries {
+
+    private IdPageQueries() {
+    }
+
+    public static <T> Page<Long> findAllIds(EntityManager entityManager, Class<T> type, Specification<T> spec, Pageable pageable) {
+        var ids = IdPageQueries.findIds(entityManager, type, spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(ids, pageable, IdPageQueries.count(entityManager, type, spec));
+    }
+
+    public static <T> List<Long> findIds(EntityManager entityManager, Class<T> type, Specification<T> spec, Sort sort, long offset, int limit) {
+        var criteria = entityManager.getCriteriaBuilder();
+        var query = criteria.createTupleQuery();
+        var root = query.from(type);
+        var predicate = spec.toPredicate(root, query, criteria);
+
+        if (predicate != null) query.where(predicate);
+
+        var selections = new ArrayList<Selection<?>>();
+        selections.add(root.get("id"));
+
+        sort.stream()
+                .map(Sort.Order::getProperty)
+                .filter(property -> !property.equals("id"))
+                .forEach(property -> selections.add(root.get(property)));
+
+        query.multiselect(selections).orderBy(QueryUtils.toOrders(sort, root, criteria));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(tuple -> tuple.get(0, Long.class))
+                .toList();
+    }
+
+    private static <T> long count(EntityManager entityManager, Class<T> type, Specification<T> spec) {
+        var criteria = entityManager.getCriteriaBuilder();
+        var query = criteria.createQuery(Long.class);
+        var root = query.from(type);
+        var predicate = spec.toPredicate(root, query, criteria);
+
+        if (predicate != null) query.where(predicate);
+
+        query.select((query.isDistinct()) ? criteria.countDistinct(root) : criteria.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.bristotartur.cedupscore_api.repositories;
+
+import com.bristotartur.cedupscore_api.domain.Participant;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ParticipantQueryRepository {
+
+    List<Long> findIds(Specification<Participant> spec, Sort sort, long offset, int limit);
+
+    Stream<Participant> streamAll(Specification<Participant> spec, Sort sort, int fetchSize);
+
+}
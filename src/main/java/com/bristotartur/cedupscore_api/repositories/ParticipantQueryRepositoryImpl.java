@@ -0,0 +1,41 @@
+package com.bristotartur.cedupscore_api.repositories;
+
+import com.bristotartur.cedupscore_api.domain.Participant;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ParticipantQueryRepositoryImpl implements ParticipantQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<Participant> spec, Sort sort, long offset, int limit) {
+        return IdPageQueries.findIds(entityManager, Participant.class, spec, sort, offset, limit);
+    }
+
+    @Override
+    public Stream<Participant> streamAll(Specification<Participant> spec, Sort sort, int fetchSize) {
+        var criteria = entityManager.getCriteriaBuilder();
+        var query = criteria.createQuery(Participant.class);
+        var root = query.from(Participant.class);
+        var predicate = spec.toPredicate(root, query, criteria);
+
+        if (predicate != null) query.where(predicate);
+
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, criteria));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+}
@@ -3,18 +3,23 @@ package com.bristotartur.cedupscore_api.repositories;
 import com.bristotartur.cedupscore_api.domain.Event;
 import com.bristotartur.cedupscore_api.domain.Participant;
 import com.bristotartur.cedupscore_api.domain.Team;
+import com.bristotartur.cedupscore_api.dtos.projections.ParticipantEventState;
+import com.bristotartur.cedupscore_api.dtos.projections.ParticipantSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface ParticipantRepository extends JpaRepository<Participant, Long>, JpaSpecificationExecutor<Participant> {
+public interface ParticipantRepository extends JpaRepository<Participant, Long>, JpaSpecificationExecutor<Participant>, ParticipantQueryRepository {
 
     @Query("""
         SELECT er.participant FROM EventRegistration er
@@ -28,4 +33,45 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>,
 
     List<Participant> findByCpfIn(Set<String> cpfs);
 
+    @Query("SELECT p FROM Participant p WHERE p.searchName IS NULL ORDER BY p.id")
+    List<Participant> findWithoutSearchName(Pageable pageable);
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.ParticipantSummary(p.id, p.name, p.type, p.gender, p.isActive)
+        FROM Participant p
+        WHERE
+            p.id IN :ids
+    """)
+    List<ParticipantSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.ParticipantEventState(
+            p.id, p.name, p.type, p.gender, p.isActive, edr.team.id, evr.id
+        )
+        FROM Participant p
+        LEFT JOIN p.editionRegistrations edr ON edr.edition.id = :editionId
+        LEFT JOIN p.eventRegistrations evr ON evr.event.id = :eventId
+        WHERE
+            p.id IN :ids
+    """)
+    List<ParticipantEventState> findEventStatesByIdIn(@Param("ids") Collection<Long> ids,
+                                                      @Param("editionId") Long editionId,
+                                                      @Param("eventId") Long eventId);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM tb_participant_name_gram
+        WHERE
+            NOT EXISTS (SELECT 1 FROM tb_edition_registration er WHERE er.participant_id = tb_participant_name_gram.participant_id)
+    """, nativeQuery = true)
+    int deleteNameGramsWithoutEditionRegistration();
+
+    @Modifying
+    @Query("""
+        DELETE FROM Participant p
+        WHERE
+            NOT EXISTS (SELECT er.id FROM EditionRegistration er WHERE er.participant = p)
+    """)
+    int deleteAllWithoutEditionRegistration();
+
 }
@@ -16,10 +16,48 @@ public final class ParticipantSpecifications {
     }
 
     public static Specification<Participant> hasName(String name) {
+        return hasName(name, false);
+    }
 
-        return (root, query, criteria) -> (name != null && !name.isEmpty())
-                ? criteria.like(criteria.upper(root.get("name")), "%" + name.toUpperCase() + "%")
-                : null;
+    // Prefix mode ("nameMatch=prefix") is the only one served by the B-tree index on search_name; the default
+    // contains mode keeps matching the term anywhere in the name.
+    public static Specification<Participant> hasName(String name, boolean prefix) {
+
+        return (root, query, criteria) -> {
+            if (name == null || name.isEmpty()) return null;
+
+            var searchName = Participant.normalizeName(name);
+
+            if (prefix) {
+                return criteria.like(root.get("searchName"), escapeLike(searchName) + "%", '\\');
+            }
+
+            // Terms shorter than a trigram cannot be narrowed by the gram table, so they keep the infix match
+            // with a plain scan of search_name.
+            if (searchName.length() < Participant.NAME_GRAM_SIZE) {
+                return criteria.like(root.get("searchName"), "%" + escapeLike(searchName) + "%", '\\');
+            }
+            var grams = Participant.createNameGrams(searchName);
+            var subquery = query.subquery(Long.class);
+            var subRoot = subquery.from(Participant.class);
+            var gram = subRoot.<Participant, String>join("nameGrams");
+
+            subquery.select(subRoot.get("id"))
+                    .where(gram.in(grams))
+                    .groupBy(subRoot.get("id"))
+                    .having(criteria.equal(criteria.countDistinct(gram), (long) grams.size()));
+
+            return criteria.and(
+                    root.get("id").in(subquery),
+                    criteria.like(root.get("searchName"), "%" + escapeLike(searchName) + "%", '\\')
+            );
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 
     public static Specification<Participant> fromEdition(Long editionId) {
@@ -156,4 +194,31 @@ public final class ParticipantSpecifications {
         });
     }
 
+    public static Specification<Participant> afterId(Long id) {
+
+        return (root, query, criteria) -> (id != null)
+                ? criteria.lessThan(root.get("id"), id)
+                : null;
+    }
+
+    public static Specification<Participant> afterName(String name, Long id, boolean ascending) {
+
+        return (root, query, criteria) -> {
+            if (id == null) return null;
+
+            var namePath = root.<String>get("name");
+            var idPath = root.<Long>get("id");
+
+            return (ascending)
+                    ? criteria.or(
+                            criteria.greaterThan(namePath, name),
+                            criteria.and(criteria.equal(namePath, name), criteria.greaterThan(idPath, id))
+                    )
+                    : criteria.or(
+                            criteria.lessThan(namePath, name),
+                            criteria.and(criteria.equal(namePath, name), criteria.lessThan(idPath, id))
+                    );
+        };
+    }
+
 }
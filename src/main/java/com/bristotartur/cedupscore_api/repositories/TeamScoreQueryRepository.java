@@ -0,0 +1,11 @@
+package com.bristotartur.cedupscore_api.repositories;
+
+import com.bristotartur.cedupscore_api.events.TeamScoresUpdatedEvent;
+
+import java.util.List;
+
+public interface TeamScoreQueryRepository {
+
+    int incrementScores(Long editionId, List<TeamScoresUpdatedEvent.Delta> deltas);
+
+}
@@ -0,0 +1,54 @@
+package com.bristotartur.cedupscore_api.repositories;
+
+import com.bristotartur.cedupscore_api.events.TeamScoresUpdatedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TeamScoreQueryRepositoryImpl implements TeamScoreQueryRepository {
+
+    private final EntityManager entityManager;
+
+    // Applies every team's delta in a single UPDATE, one CASE branch per team, so closing an event costs one
+    // statement regardless of how many teams take part.
+    @Override
+    public int incrementScores(Long editionId, List<TeamScoresUpdatedEvent.Delta> deltas) {
+        if (deltas.isEmpty()) return 0;
+
+        var jpql = """
+            UPDATE TeamScore ts
+            SET
+                ts.score = ts.score + %s,
+                ts.tasksWon = ts.tasksWon + %s,
+                ts.sportsWon = ts.sportsWon + %s
+            WHERE
+                ts.edition.id = :editionId AND ts.team.id IN :teamIds
+        """.formatted(this.caseFor("score", deltas), this.caseFor("tasksWon", deltas), this.caseFor("sportsWon", deltas));
+
+        var query = entityManager.createQuery(jpql)
+                .setParameter("editionId", editionId)
+                .setParameter("teamIds", deltas.stream().map(TeamScoresUpdatedEvent.Delta::teamId).toList());
+
+        for (int i = 0; i < deltas.size(); i++) {
+            var delta = deltas.get(i);
+
+            query.setParameter("teamId" + i, delta.teamId())
+                    .setParameter("score" + i, delta.score())
+                    .setParameter("tasksWon" + i, delta.tasksWon())
+                    .setParameter("sportsWon" + i, delta.sportsWon());
+        }
+        return query.executeUpdate();
+    }
+
+    private String caseFor(String field, List<TeamScoresUpdatedEvent.Delta> deltas) {
+        var branches = new StringBuilder("CASE ts.team.id");
+
+        for (int i = 0; i < deltas.size(); i++) {
+            branches.append(" WHEN :teamId%d THEN :%s%d".formatted(i, field, i));
+        }
+        return branches.append(" ELSE 0 END").toString();
+    }
+
+}
@@ -3,16 +3,29 @@ package com.bristotartur.cedupscore_api.repositories;
 import com.bristotartur.cedupscore_api.domain.Edition;
 import com.bristotartur.cedupscore_api.domain.Team;
 import com.bristotartur.cedupscore_api.domain.TeamScore;
+import com.bristotartur.cedupscore_api.dtos.projections.TeamScoreTotal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface TeamScoreRepository extends JpaRepository<TeamScore, Long> {
+public interface TeamScoreRepository extends JpaRepository<TeamScore, Long>, TeamScoreQueryRepository {
 
     List<TeamScore> findAllByEdition(Edition edition);
 
+    List<TeamScore> findAllByEditionId(Long editionId);
+
     List<TeamScore> findAllByTeam(Team team);
 
+    @Query("""
+        SELECT new com.bristotartur.cedupscore_api.dtos.projections.TeamScoreTotal(ts.team.id, ts.score)
+        FROM TeamScore ts
+        WHERE
+            ts.edition.id = :editionId
+    """)
+    List<TeamScoreTotal> findTotalsByEditionId(@Param("editionId") Long editionId);
+
 }
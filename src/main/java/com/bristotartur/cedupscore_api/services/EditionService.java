@@ -3,6 +3,8 @@ package com.bristotartur.cedupscore_api.services;
 import com.bristotartur.cedupscore_api.domain.Edition;
 import com.bristotartur.cedupscore_api.dtos.response.EditionResponseDto;
 import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.events.EditionDeletedEvent;
+import com.bristotartur.cedupscore_api.events.EditionStatusChangedEvent;
 import com.bristotartur.cedupscore_api.exceptions.ConflictException;
 import com.bristotartur.cedupscore_api.exceptions.NotFoundException;
 import com.bristotartur.cedupscore_api.exceptions.UnprocessableEntityException;
@@ -10,8 +12,10 @@ import com.bristotartur.cedupscore_api.mappers.EditionMapper;
 import com.bristotartur.cedupscore_api.mappers.ScoreMapper;
 import com.bristotartur.cedupscore_api.repositories.EditionRepository;
 import com.bristotartur.cedupscore_api.repositories.TeamScoreRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +33,16 @@ public class EditionService {
     private final EditionMapper editionMapper;
     private final ScoreMapper scoreMapper;
     private final TeamService teamService;
+    private final LeaderboardService leaderboardService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<Edition> findAllEditions() {
-        return editionRepository.findAllDescending();
+    @Transactional(readOnly = true)
+    @Timed(value = "editions.list")
+    public List<EditionResponseDto> findAllEditions() {
+        return editionRepository.findAllSummariesDescending()
+                .stream()
+                .map(edition -> editionMapper.toEditionResponseDto(edition, leaderboardService.findStandings(edition.id())))
+                .toList();
     }
 
     public Edition findEditionById(Long id) {
@@ -55,13 +66,7 @@ public class EditionService {
     }
 
     public EditionResponseDto createEditionResponseDto(Edition edition) {
-        var teamScores = teamScoreRepository.findAllByEdition(edition)
-                .stream()
-                .map(score -> {
-                    var teamDto = teamService.createTeamResponseDto(score.getTeam());
-                    return scoreMapper.toTeamScoreResponseDto(score, teamDto);
-                }).toList();
-
+        var teamScores = leaderboardService.findStandings(edition);
         return editionMapper.toEditionResponseDto(edition, teamScores);
     }
 
@@ -75,12 +80,14 @@ public class EditionService {
                 .status(Status.SCHEDULED)
                 .build()
         );
-        var teams = teamService.findAllActiveTeams();
+        var scores = teamService.findAllActiveTeams()
+                .stream()
+                .map(team -> scoreMapper.toNewTeamScore(0, edition, team))
+                .toList();
+
+        teamScoreRepository.saveAll(scores);
+        eventPublisher.publishEvent(new EditionStatusChangedEvent(edition.getId(), edition.getStatus()));
 
-        teams.forEach(team -> {
-            var score = scoreMapper.toNewTeamScore(0, edition, team);
-            teamScoreRepository.save(score);
-        });
         return edition;
     }
 
@@ -94,6 +101,7 @@ public class EditionService {
             throw new UnprocessableEntityException("A edição não pode ser removida, pois já possui tarefas ou esportes relacionados.");
         }
         editionRepository.delete(edition);
+        eventPublisher.publishEvent(new EditionDeletedEvent(id));
     }
 
     public Edition updateEditionStatus(Long id, Status status) {
@@ -109,6 +117,8 @@ public class EditionService {
             edition.setClosingDate(LocalDateTime.now());
         }
         edition.setStatus(status);
+        eventPublisher.publishEvent(new EditionStatusChangedEvent(id, status));
+
         return editionRepository.save(edition);
     }
 
@@ -0,0 +1,159 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.dtos.response.EventStatusResponseDto;
+import com.bristotartur.cedupscore_api.events.EditionDeletedEvent;
+import com.bristotartur.cedupscore_api.events.EventStatusChangedEvent;
+import com.bristotartur.cedupscore_api.events.TeamScoresUpdatedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class EditionStreamService {
+
+    private final LeaderboardService leaderboardService;
+
+    @Value("${api.stream.timeout}")
+    private Long timeout;
+
+    @Value("${api.stream.subscriber-buffer-size}")
+    private Integer bufferSize;
+
+    private final Map<Long, Set<Subscriber>> subscribersByEdition = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SseEmitter subscribe(Long editionId) {
+        var subscriber = new Subscriber(editionId, new SseEmitter(timeout), new ArrayBlockingQueue<>(bufferSize));
+        var emitter = subscriber.emitter;
+
+        emitter.onCompletion(() -> this.unsubscribe(subscriber));
+        emitter.onTimeout(() -> this.unsubscribe(subscriber));
+        emitter.onError(e -> this.unsubscribe(subscriber));
+
+        subscribersByEdition.compute(editionId, (id, subscribers) -> {
+            var editionSubscribers = (subscribers != null) ? subscribers : ConcurrentHashMap.<Subscriber>newKeySet();
+            editionSubscribers.add(subscriber);
+            return editionSubscribers;
+        });
+        this.send(subscriber, new Message("standings", leaderboardService.findStandings(editionId)));
+
+        return emitter;
+    }
+
+    @Order(1)
+    @TransactionalEventListener
+    public void onTeamScoresUpdated(TeamScoresUpdatedEvent event) {
+        var subscribers = subscribersByEdition.get(event.editionId());
+
+        if (subscribers == null || subscribers.isEmpty()) return;
+
+        var changedTeamIds = event.deltas()
+                .stream()
+                .map(TeamScoresUpdatedEvent.Delta::teamId)
+                .collect(Collectors.toSet());
+        var changedScores = leaderboardService.findStandings(event.editionId())
+                .stream()
+                .filter(score -> changedTeamIds.contains(score.team().id))
+                .toList();
+
+        this.broadcast(subscribers, new Message("scores", changedScores));
+    }
+
+    @TransactionalEventListener
+    public void onEventStatusChanged(EventStatusChangedEvent event) {
+        var subscribers = subscribersByEdition.get(event.editionId());
+
+        if (subscribers == null || subscribers.isEmpty()) return;
+
+        var dto = new EventStatusResponseDto(event.eventId(), event.name(), event.status(), event.startedAt(), event.endedAt());
+        this.broadcast(subscribers, new Message("event-status", dto));
+    }
+
+    @TransactionalEventListener
+    public void onEditionDeleted(EditionDeletedEvent event) {
+        var subscribers = subscribersByEdition.remove(event.editionId());
+
+        if (subscribers == null) return;
+
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribersByEdition.values()
+                .forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        dispatcher.shutdown();
+    }
+
+    private void broadcast(Set<Subscriber> subscribers, Message message) {
+        subscribers.forEach(subscriber -> this.send(subscriber, message));
+    }
+
+    private void send(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message)) {
+            this.unsubscribe(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.isDraining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> this.drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            try {
+                Message message;
+                while ((message = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .name(message.name())
+                            .data(message.data()));
+                }
+            } catch (IOException | IllegalStateException e) {
+                this.unsubscribe(subscriber);
+                subscriber.queue.clear();
+                return;
+            } finally {
+                subscriber.isDraining.set(false);
+            }
+        } while (!subscriber.queue.isEmpty() && subscriber.isDraining.compareAndSet(false, true));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribersByEdition.computeIfPresent(subscriber.editionId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return (subscribers.isEmpty()) ? null : subscribers;
+        });
+    }
+
+    private record Message(String name, Object data) {
+    }
+
+    private static final class Subscriber {
+
+        private final Long editionId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean isDraining = new AtomicBoolean(false);
+
+        private Subscriber(Long editionId, SseEmitter emitter, BlockingQueue<Message> queue) {
+            this.editionId = editionId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+    }
+
+}
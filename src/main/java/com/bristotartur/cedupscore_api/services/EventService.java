@@ -1,22 +1,36 @@
 package com.bristotartur.cedupscore_api.services;
 
 import com.bristotartur.cedupscore_api.domain.Event;
+import com.bristotartur.cedupscore_api.dtos.projections.EventScoreSummary;
+import com.bristotartur.cedupscore_api.dtos.projections.EventSummary;
+import com.bristotartur.cedupscore_api.dtos.projections.TeamScoreTotal;
 import com.bristotartur.cedupscore_api.dtos.request.*;
 import com.bristotartur.cedupscore_api.dtos.response.EventResponseDto;
+import com.bristotartur.cedupscore_api.dtos.response.SliceResponseDto;
 import com.bristotartur.cedupscore_api.enums.EventType;
 import com.bristotartur.cedupscore_api.enums.ExtraType;
 import com.bristotartur.cedupscore_api.enums.Modality;
 import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.events.EventDeletedEvent;
+import com.bristotartur.cedupscore_api.events.EventRegistrationsChangedEvent;
+import com.bristotartur.cedupscore_api.events.EventStatusChangedEvent;
+import com.bristotartur.cedupscore_api.events.EventUpdatedEvent;
+import com.bristotartur.cedupscore_api.events.TeamScoresUpdatedEvent;
 import com.bristotartur.cedupscore_api.exceptions.BadRequestException;
 import com.bristotartur.cedupscore_api.exceptions.ConflictException;
 import com.bristotartur.cedupscore_api.exceptions.NotFoundException;
 import com.bristotartur.cedupscore_api.exceptions.UnprocessableEntityException;
 import com.bristotartur.cedupscore_api.mappers.EventMapper;
 import com.bristotartur.cedupscore_api.mappers.ScoreMapper;
+import com.bristotartur.cedupscore_api.mappers.TeamMapper;
 import com.bristotartur.cedupscore_api.repositories.EventRepository;
 import com.bristotartur.cedupscore_api.repositories.EventScoreRepository;
+import com.bristotartur.cedupscore_api.repositories.TeamScoreRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -27,9 +41,10 @@ import org.springframework.transaction.annotation.Transactional;
 import static com.bristotartur.cedupscore_api.repositories.EventSpecifications.*;
 
 import java.time.LocalDateTime;
-import java.util.Locale;
-import java.util.Map;
-import java.util.Set;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,24 +55,92 @@ public class EventService {
     private final EventValidationService eventValidator;
     private final EventMapper eventMapper;
     private final ScoreMapper scoreMapper;
+    private final TeamMapper teamMapper;
     private final EditionService editionService;
     private final UserService userService;
     private final TeamService teamService;
     private final EventScoreRepository eventScoreRepository;
+    private final TeamScoreRepository teamScoreRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public Page<Event> findAllEvents(EventFilterDto filter, Pageable pageable) {
+    @Transactional(readOnly = true)
+    @Timed(value = "events.list", extraTags = {"mode", "page"})
+    public Page<EventResponseDto> findAllEvents(EventFilterDto filter, Pageable pageable) {
+        var spec = this.createSpecification(filter);
+        var pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("startedAt").descending());
+        var ids = eventRepository.findAllIds(spec, pageRequest);
+
+        return new PageImpl<>(this.createEventResponseDtos(ids.getContent()), pageRequest, ids.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    @Timed(value = "events.list", extraTags = {"mode", "cursor"})
+    public SliceResponseDto<EventResponseDto> findAllEvents(EventFilterDto filter, String after, Pageable pageable) {
+        var cursor = KeysetCursor.decode(after);
+        var size = pageable.getPageSize();
+
+        var seek = (cursor != null)
+                ? startedBefore(this.parseCursorValue(cursor), cursor.id())
+                : null;
+        var spec = this.createSpecification(filter).and(seek);
+        var ids = eventRepository.findIds(spec, Sort.by("startedAt").descending().and(Sort.by("id").descending()), 0, size + 1);
+
+        var hasNext = ids.size() > size;
+        var dtos = this.createEventResponseDtos((hasNext) ? ids.subList(0, size) : ids);
+
+        var nextCursor = (hasNext)
+                ? new KeysetCursor(dtos.getLast().id, dtos.getLast().startedAt.toString()).encode()
+                : null;
+
+        return new SliceResponseDto<>(dtos, size, hasNext, nextCursor);
+    }
+
+    private LocalDateTime parseCursorValue(KeysetCursor cursor) throws BadRequestException {
+        try {
+            return LocalDateTime.parse(cursor.value());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Cursor inválido.", e);
+        }
+    }
+
+    private Specification<Event> createSpecification(EventFilterDto filter) {
         var eventType = (filter.type() != null)
                 ? EventType.findEventTypeLike(filter.type())
                 : null;
 
-        var spec = Specification.where(hasType(eventType)
+        return Specification.where(hasType(eventType)
                 .and(hasParticipant(filter.participant()))
                 .and(fromEdition(filter.edition()))
                 .and(fromUser(filter.user()))
         );
-        return eventRepository.findAll(spec, PageRequest.of(
-                pageable.getPageNumber(), pageable.getPageSize(), Sort.by("startedAt").descending()
-        ));
+    }
+
+    private List<EventResponseDto> createEventResponseDtos(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        var idToSummaryMap = eventRepository.findSummariesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(EventSummary::id, Function.identity()));
+        var idToScoresMap = eventScoreRepository.findSummariesByEventIdIn(ids)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        EventScoreSummary::eventId,
+                        Collectors.mapping(score -> scoreMapper.toEventScoreResponseDto(
+                                score,
+                                teamMapper.toTeamResponseDto(score.teamId(), score.teamName(), score.teamLogoUrl(), score.teamIsActive())
+                        ), Collectors.toList())
+                ));
+
+        return ids.stream()
+                .map(id -> {
+                    var event = idToSummaryMap.get(id);
+                    var scores = idToScoresMap.getOrDefault(id, List.of());
+
+                    return switch (event.type()) {
+                        case TASK -> (EventResponseDto) eventMapper.toTaskEventResponseDto(event, scores);
+                        case SPORT -> eventMapper.toSportEventResponseDto(event, scores);
+                    };
+                }).toList();
     }
 
     public Event findEventById(Long id) throws NotFoundException {
@@ -113,14 +196,12 @@ public class EventService {
     }
 
     private void generateNewEventScores(Event event) {
-        var teams = teamService.findAllActiveTeams();
-
-        teams.forEach(team -> {
-            var score = scoreMapper.toNewEventScore(event, team);
+        var scores = teamService.findAllActiveTeams()
+                .stream()
+                .map(team -> scoreMapper.toNewEventScore(event, team))
+                .toList();
 
-            eventScoreRepository.save(score);
-            event.getScores().add(score);
-        });
+        event.getScores().addAll(eventScoreRepository.saveAll(scores));
     }
 
     public void deleteEvent(Long id) throws NotFoundException, UnprocessableEntityException {
@@ -130,6 +211,8 @@ public class EventService {
             throw new UnprocessableEntityException("Eventos só podem ser removidos quando estão agendados.");
         }
         eventRepository.delete(event);
+        eventPublisher.publishEvent(new EventRegistrationsChangedEvent(id));
+        eventPublisher.publishEvent(new EventDeletedEvent(id));
     }
 
     public Event replaceEvent(Long id, EventRequestDto dto) throws BadRequestException, NotFoundException, ConflictException, UnprocessableEntityException {
@@ -141,6 +224,7 @@ public class EventService {
         eventValidator.checkEdition(edition, true);
         eventValidator.checkUser(user);
         eventValidator.checkEventForUpdate(dto, event);
+        eventPublisher.publishEvent(new EventUpdatedEvent(id));
 
         return switch (dto) {
             case TaskEventRequestDto taskDto -> {
@@ -172,10 +256,12 @@ public class EventService {
         event.setStatus(status);
         event.setStartedAt(LocalDateTime.now());
         event.setEndedAt(LocalDateTime.now());
-        
+        this.publishStatusChange(event);
+
         return eventRepository.save(event);
     }
 
+    @Timed(value = "events.close")
     public Event closeEvent(Long id, Set<EventScoreRequestDto> scoresDtos) throws BadRequestException, NotFoundException, ConflictException, UnprocessableEntityException {
         var event = this.findEventById(id);
         var status = Status.ENDED;
@@ -186,41 +272,58 @@ public class EventService {
         eventValidator.validateEventToChangeStatus(event, status, true);
         
         var idToScoreMap = eventValidator.validateEventScoresAndReturnScoresMap(event, scoresDtos);
+        var endedAt = LocalDateTime.now();
 
-	    event.setStatus(status);
-	    event.setEndedAt(LocalDateTime.now());
+        if (eventRepository.compareAndSetStatus(id, event.getStatus(), status, endedAt) == 0) {
+            throw new ConflictException("O evento já foi encerrado.");
+        }
+        event.setStatus(status);
+        event.setEndedAt(endedAt);
         this.updateScores(event, idToScoreMap);
-        
+        this.publishStatusChange(event);
+
         return eventRepository.save(event);
     }
 
+    private void publishStatusChange(Event event) {
+        eventPublisher.publishEvent(new EventStatusChangedEvent(
+                event.getEdition().getId(),
+                event.getId(),
+                event.getName(),
+                event.getStatus(),
+                event.getStartedAt(),
+                event.getEndedAt()
+        ));
+    }
+
     private void updateScores(Event event, Map<Long, Integer> idToScoreMap) {
         var type = event.getType();
-        var edition = event.getEdition();
+        var editionId = event.getEdition().getId();
         var maxScore = idToScoreMap.values()
                 .stream()
                 .max(Integer::compareTo).orElse(0);
+        var totalsByTeamId = teamScoreRepository.findTotalsByEditionId(editionId)
+                .stream()
+                .collect(Collectors.toMap(TeamScoreTotal::teamId, TeamScoreTotal::score));
 
-        event.getScores().forEach(score -> {
-            var id = score.getId();
-            var team = score.getTeam();
-
-            score.setScore(idToScoreMap.get(id));
-            edition.getTeamScores().stream()
-                    .filter(teamScore -> teamScore.getTeam().equals(team))
-                    .findFirst()
-                    .ifPresent(teamScore -> {
-                        var currentScore = teamScore.getScore();
-                        teamScore.setScore(currentScore + score.getScore());
-
-                        if (!currentScore.equals(maxScore)) return;
-
-                        switch (type) {
-                            case EventType.TASK -> teamScore.setTasksWon(teamScore.getTasksWon() + 1);
-                            case EventType.SPORT ->  teamScore.setSportsWon(teamScore.getSportsWon() + 1);
-                        }
-                    });
-        });
+        var deltas = event.getScores()
+                .stream()
+                .map(score -> {
+                    score.setScore(idToScoreMap.get(score.getId()));
+                    var isWinner = maxScore.equals(totalsByTeamId.get(score.getTeam().getId()));
+
+                    return new TeamScoresUpdatedEvent.Delta(
+                            score.getTeam().getId(),
+                            score.getScore(),
+                            (isWinner && type.equals(EventType.TASK)) ? 1 : 0,
+                            (isWinner && type.equals(EventType.SPORT)) ? 1 : 0
+                    );
+                })
+                .sorted(Comparator.comparing(TeamScoresUpdatedEvent.Delta::teamId))
+                .toList();
+
+        teamScoreRepository.incrementScores(editionId, deltas);
+        eventPublisher.publishEvent(new TeamScoresUpdatedEvent(editionId, event.getId(), deltas));
     }
 
 }
@@ -0,0 +1,165 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.domain.Edition;
+import com.bristotartur.cedupscore_api.domain.TeamScore;
+import com.bristotartur.cedupscore_api.dtos.response.TeamResponseDto;
+import com.bristotartur.cedupscore_api.dtos.response.TeamScoreResponseDto;
+import com.bristotartur.cedupscore_api.events.EditionDeletedEvent;
+import com.bristotartur.cedupscore_api.events.TeamScoresUpdatedEvent;
+import com.bristotartur.cedupscore_api.events.TeamUpdatedEvent;
+import com.bristotartur.cedupscore_api.mappers.TeamMapper;
+import com.bristotartur.cedupscore_api.repositories.TeamScoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private static final Comparator<Standing> RANKING = Comparator.comparingInt(Standing::score).reversed()
+            .thenComparing(Comparator.comparingInt(Standing::tasksWon).reversed())
+            .thenComparing(Comparator.comparingInt(Standing::sportsWon).reversed());
+
+    private final TeamScoreRepository teamScoreRepository;
+    private final TeamMapper teamMapper;
+
+    private final Map<Long, Standings> standingsByEdition = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> generationsByEdition = new ConcurrentHashMap<>();
+
+    public List<TeamScoreResponseDto> findStandings(Edition edition) {
+        return this.findStandings(edition.getId());
+    }
+
+    public List<TeamScoreResponseDto> findStandings(Long editionId) {
+        var standings = standingsByEdition.get(editionId);
+
+        if (standings != null) return standings.dtos();
+
+        var generation = this.getGeneration(editionId);
+        var expectedGeneration = generation.get();
+        var loadedStandings = Standings.of(teamScoreRepository.findAllByEditionId(editionId), teamMapper);
+
+        standingsByEdition.compute(editionId, (id, current) -> {
+            if (current != null) return current;
+            return (generation.get() == expectedGeneration) ? loadedStandings : null;
+        });
+        return loadedStandings.dtos();
+    }
+
+    public List<Standing> findRankedStandings(Long editionId) {
+        var standings = standingsByEdition.get(editionId);
+        return (standings != null) ? standings.ranking() : List.of();
+    }
+
+    @Order(0)
+    @TransactionalEventListener
+    public void onTeamScoresUpdated(TeamScoresUpdatedEvent event) {
+        var generation = this.getGeneration(event.editionId());
+
+        standingsByEdition.compute(event.editionId(), (id, current) -> {
+            generation.incrementAndGet();
+            return (current != null) ? current.withDeltas(event.deltas()) : null;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onTeamUpdated(TeamUpdatedEvent event) {
+        generationsByEdition.keySet().forEach(this::evict);
+    }
+
+    @TransactionalEventListener
+    public void onEditionDeleted(EditionDeletedEvent event) {
+        this.evict(event.editionId());
+        generationsByEdition.remove(event.editionId());
+    }
+
+    private void evict(Long editionId) {
+        var generation = this.getGeneration(editionId);
+
+        standingsByEdition.compute(editionId, (id, current) -> {
+            generation.incrementAndGet();
+            return null;
+        });
+    }
+
+    private AtomicLong getGeneration(Long editionId) {
+        return generationsByEdition.computeIfAbsent(editionId, id -> new AtomicLong());
+    }
+
+    public record Standing(Long teamScoreId, int score, int tasksWon, int sportsWon, int rank, TeamResponseDto team) {
+
+        private Standing withDeltas(int score, int tasksWon, int sportsWon) {
+            return new Standing(teamScoreId, this.score + score, this.tasksWon + tasksWon, this.sportsWon + sportsWon, rank, team);
+        }
+
+        private Standing withRank(int rank) {
+            return new Standing(teamScoreId, score, tasksWon, sportsWon, rank, team);
+        }
+
+        private boolean isTiedWith(Standing other) {
+            return score == other.score && tasksWon == other.tasksWon && sportsWon == other.sportsWon;
+        }
+
+    }
+
+    private record Standings(List<Standing> ranking, List<TeamScoreResponseDto> dtos) {
+
+        private static Standings of(List<TeamScore> teamScores, TeamMapper teamMapper) {
+            var standings = teamScores.stream()
+                    .map(teamScore -> new Standing(
+                            teamScore.getId(),
+                            teamScore.getScore(),
+                            teamScore.getTasksWon(),
+                            teamScore.getSportsWon(),
+                            0,
+                            teamMapper.toTeamResponseDto(teamScore.getTeam())
+                    )).toList();
+
+            return Standings.ranked(standings);
+        }
+
+        private static Standings ranked(List<Standing> standings) {
+            var sortedStandings = standings.stream()
+                    .sorted(RANKING.thenComparing(standing -> standing.team().name))
+                    .toList();
+            var ranking = new ArrayList<Standing>(sortedStandings.size());
+
+            for (int i = 0; i < sortedStandings.size(); i++) {
+                var standing = sortedStandings.get(i);
+                var isTiedWithPrevious = i > 0 && standing.isTiedWith(ranking.get(i - 1));
+                var rank = (isTiedWithPrevious) ? ranking.get(i - 1).rank() : i + 1;
+
+                ranking.add(standing.withRank(rank));
+            }
+            var dtos = ranking.stream()
+                    .map(standing -> new TeamScoreResponseDto(
+                            standing.teamScoreId(), standing.score(), standing.tasksWon(), standing.sportsWon(), standing.team()
+                    )).toList();
+
+            return new Standings(List.copyOf(ranking), dtos);
+        }
+
+        private Standings withDeltas(List<TeamScoresUpdatedEvent.Delta> deltas) {
+            var idToDelta = deltas.stream()
+                    .collect(Collectors.toMap(TeamScoresUpdatedEvent.Delta::teamId, Function.identity()));
+
+            var updatedStandings = ranking.stream()
+                    .map(standing -> Optional.ofNullable(idToDelta.get(standing.team().id))
+                            .map(delta -> standing.withDeltas(delta.score(), delta.tasksWon(), delta.sportsWon()))
+                            .orElse(standing)
+                    ).toList();
+
+            return Standings.ranked(updatedStandings);
+        }
+
+    }
+
+}
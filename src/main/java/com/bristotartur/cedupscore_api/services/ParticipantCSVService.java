@@ -2,11 +2,14 @@ package com.bristotartur.cedupscore_api.services;
 
 import com.bristotartur.cedupscore_api.domain.*;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantCSVDto;
+import com.bristotartur.cedupscore_api.dtos.request.ParticipantFilterDto;
 import com.bristotartur.cedupscore_api.dtos.response.ParticipantInactivationReport;
 import com.bristotartur.cedupscore_api.dtos.response.ParticipantRegistrationReport;
+import com.bristotartur.cedupscore_api.enums.CpfValidationResult;
 import com.bristotartur.cedupscore_api.enums.Gender;
 import com.bristotartur.cedupscore_api.enums.ParticipantType;
 import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.events.ParticipantsChangedEvent;
 import com.bristotartur.cedupscore_api.exceptions.BadRequestException;
 import com.bristotartur.cedupscore_api.exceptions.ConflictException;
 import com.bristotartur.cedupscore_api.exceptions.InternalServerErrorException;
@@ -15,19 +18,28 @@ import com.bristotartur.cedupscore_api.mappers.ParticipantMapper;
 import com.bristotartur.cedupscore_api.mappers.RegistrationMapper;
 import com.bristotartur.cedupscore_api.repositories.EditionRegistrationRepository;
 import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import com.opencsv.bean.HeaderColumnNameMappingStrategy;
 import com.opencsv.exceptions.CsvBadConverterException;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,10 +50,18 @@ public class ParticipantCSVService {
 
     private final ParticipantRepository participantRepository;
     private final EditionRegistrationRepository editionRegistrationRepository;
+    private final ParticipantService participantService;
     private final ParticipantValidationService participantValidator;
     private final EditionService editionService;
     private final ParticipantMapper participantMapper;
     private final RegistrationMapper registrationMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${api.csv.chunk-size}")
+    private Integer chunkSize;
 
     public byte[] generateParticipantsCSV(String type, List<ParticipantCSVDto> dtos) {
         var csvContent = new StringBuilder();
@@ -67,6 +87,38 @@ public class ParticipantCSVService {
         };
     }
 
+    @Transactional(readOnly = true)
+    @Timed(value = "participants.csv.export")
+    public void writeParticipantsCSV(ParticipantFilterDto filter, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        writer.write("nome,cpf,gênero,tipo,status\n");
+        writer.flush();
+
+        try (var participants = participantService.streamAllParticipants(filter, chunkSize)) {
+            var iterator = participants.iterator();
+
+            while (iterator.hasNext()) {
+                var participant = iterator.next();
+
+                writer.write(this.formatCsvLine(
+                        participant.getName(),
+                        participant.getCpf(),
+                        participant.getGender().value,
+                        participant.getType().value,
+                        (participant.getIsActive()) ? "Ativo" : "Inativo"
+                ));
+                entityManager.detach(participant);
+            }
+        }
+        writer.flush();
+    }
+
+    private void countRows(String type, int processed, int rejected) {
+        meterRegistry.counter("participants.csv.rows", "type", type, "result", "accepted").increment(processed - rejected);
+        meterRegistry.counter("participants.csv.rows", "type", type, "result", "rejected").increment(rejected);
+    }
+
     private String formatCsvLine(String... values) {
 
         return Arrays.stream(values)
@@ -74,73 +126,253 @@ public class ParticipantCSVService {
             .collect(Collectors.joining(",")) + "\n";
     }
 
-    public ParticipantRegistrationReport handleParticipantsRegistrationCSVFile(MultipartFile file) {
-        var participantsWithProblems = new HashSet<ParticipantCSVDto>();
-        var currentEdition = this.getCurrentEdition();
-        var dtos = new ArrayList<>(this.parseCSV(file).stream().toList());
-        var total = dtos.size();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(value = "participants.csv.import", extraTags = {"type", "registration"})
+    public ParticipantRegistrationReport handleParticipantsRegistrationCSVFile(InputStreamSource file) {
+        return this.handleParticipantsRegistrationCSVFile(file, (processed, rejected) -> {});
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(value = "participants.csv.import", extraTags = {"type", "registration"})
+    public ParticipantRegistrationReport handleParticipantsRegistrationCSVFile(InputStreamSource file, BiConsumer<Integer, Integer> onChunkProcessed) {
+        var editionId = this.getCurrentEdition().getId();
+        var participantsWithProblems = new ArrayList<ParticipantCSVDto>();
+        var totals = new RegistrationTotals();
+        var seenCpfs = new HashSet<String>();
+
+        this.forEachChunk(file, (dtos, unreadableRows) -> {
+            var chunkProblems = new ArrayList<ParticipantCSVDto>();
+            var chunkTotals = this.registerChunkOrReject(editionId, dtos, seenCpfs, chunkProblems);
+
+            chunkTotals.total += unreadableRows.size();
+            chunkTotals.rejected += unreadableRows.size();
+            chunkProblems.addAll(unreadableRows);
+
+            totals.add(chunkTotals);
+            participantsWithProblems.addAll(chunkProblems);
+            this.countRows("registration", dtos.size() + unreadableRows.size(), chunkProblems.size());
+            onChunkProcessed.accept(dtos.size() + unreadableRows.size(), chunkProblems.size());
+        });
+        return participantMapper.toParticipantRegistrationReport(
+                totals.total,
+                totals.added,
+                totals.notAdded,
+                totals.registered,
+                participantsWithProblems.size(),
+                totals.rejected,
+                totals.notRegistered,
+                participantsWithProblems
+        );
+    }
+
+    // Rows repeating a CPF already seen in the file are rejected one by one before anything is saved. If the database
+    // still refuses the chunk, it is rolled back and retried row by row, so only the offending rows are reported and
+    // the rest of the chunk is imported.
+    private RegistrationTotals registerChunkOrReject(Long editionId, List<ParticipantCSVDto> chunk, Set<String> seenCpfs, List<ParticipantCSVDto> chunkProblems) {
+        try {
+            return this.registerInTransaction(editionId, chunk, seenCpfs, chunkProblems);
+        } catch (DataAccessException e) {
+            var chunkTotals = new RegistrationTotals();
+            chunkProblems.clear();
+
+            chunk.forEach(dto -> {
+                var rowProblems = new ArrayList<ParticipantCSVDto>();
+
+                try {
+                    chunkTotals.add(this.registerInTransaction(editionId, List.of(dto), seenCpfs, rowProblems));
+                    chunkProblems.addAll(rowProblems);
+                } catch (DataAccessException rowException) {
+                    chunkTotals.total++;
+                    chunkTotals.rejected++;
+                    chunkProblems.add(this.rejectRow(dto, rowException));
+                }
+            });
+            return chunkTotals;
+        }
+    }
+
+    private RegistrationTotals registerInTransaction(Long editionId, List<ParticipantCSVDto> dtos, Set<String> seenCpfs, List<ParticipantCSVDto> problems) {
+        var totals = new RegistrationTotals();
+        var cpfs = new HashSet<>(seenCpfs);
 
-        this.filterParticipantsByTeam(dtos, currentEdition, participantsWithProblems);
-        this.filterParticipantsByCpf(dtos, participantsWithProblems);
+        transactionTemplate.executeWithoutResult(status -> {
+            var currentEdition = editionService.findEditionById(editionId);
+            var registrations = this.registerChunk(dtos, currentEdition, cpfs, totals, problems);
+
+            participantRepository.flush();
+            entityManager.clear();
+            eventPublisher.publishEvent(ParticipantsChangedEvent.of(registrations.stream()
+                    .map(registration -> registration.getParticipant().getId())
+                    .toList()
+            ));
+        });
+        seenCpfs.addAll(cpfs);
+        return totals;
+    }
+
+    List<EditionRegistration> registerChunk(List<ParticipantCSVDto> chunk, Edition currentEdition, Set<String> seenCpfs, RegistrationTotals totals, List<ParticipantCSVDto> participantsWithProblems) {
+        var chunkProblems = new HashSet<ParticipantCSVDto>();
+        var dtos = new ArrayList<>(chunk);
+        totals.total += dtos.size();
+
+        this.filterParticipantsByTeam(dtos, currentEdition, chunkProblems);
+        this.filterParticipantsByCpf(dtos, chunkProblems);
+        this.filterParticipantsRepeatedInFile(dtos, seenCpfs, chunkProblems);
 
         var teamsIdsByCpfMap = new HashMap<String, Long>();
-        var existingParticipantsMap = this.findAndValidateExistingParticipantsByCpf(dtos, teamsIdsByCpfMap, participantsWithProblems);
+        var existingParticipantsMap = this.findAndValidateExistingParticipantsByCpf(dtos, teamsIdsByCpfMap, chunkProblems);
 
         var savedParticipants = participantRepository.saveAll(dtos.stream()
-                .map(dto -> this.processParticipantForCreation(dto, existingParticipantsMap, participantsWithProblems))
+                .map(dto -> this.processParticipantForCreation(dto, existingParticipantsMap, chunkProblems))
                 .filter(Objects::nonNull).toList()
         );
-        var added = savedParticipants.size();
-        var notAdded = existingParticipantsMap.size();
+        totals.added += savedParticipants.size();
+        totals.notAdded += existingParticipantsMap.size();
         savedParticipants.addAll(existingParticipantsMap.values());
 
-        var rejected = participantsWithProblems.size();
-        var registered = this.registerAllParticipantsInEdition(savedParticipants, currentEdition, teamsIdsByCpfMap, participantsWithProblems).size();
-        var problems = participantsWithProblems.size();
-        var notRegistered = problems - rejected;
+        var rejected = chunkProblems.size();
+        var registrations = this.registerAllParticipantsInEdition(savedParticipants, currentEdition, teamsIdsByCpfMap, chunkProblems);
+        totals.registered += registrations.size();
+        totals.rejected += rejected;
+        totals.notRegistered += chunkProblems.size() - rejected;
 
-        return participantMapper.toParticipantRegistrationReport(
-                total, added, notAdded, registered, problems, rejected, notRegistered, new ArrayList<>(participantsWithProblems)
-        );
+        participantsWithProblems.addAll(chunkProblems);
+        return registrations;
     }
 
-    public ParticipantInactivationReport handleParticipantsInactivationCSVFile(MultipartFile file) {
-        var participantsWithProblems = new HashSet<ParticipantCSVDto>();
-        var dtos = new ArrayList<>(this.parseCSV(file).stream().toList());
-        var total = dtos.size();
+    private List<ParticipantCSVDto> rejectChunk(List<ParticipantCSVDto> chunk, DataAccessException e) {
+        var message = "O bloco de linhas não pôde ser salvo e foi descartado: %s".formatted(e.getMostSpecificCause().getMessage());
 
-        var existingParticipants = this.filterExistingParticipantsByCpf(dtos, participantsWithProblems);
+        return chunk.stream()
+                .map(dto -> this.setParticipantWithProblem(dto, message))
+                .toList();
+    }
 
-        var inactivatedParticipants = participantRepository.saveAll(existingParticipants.stream()
-                .filter(Participant::getIsActive)
-                .map(participant -> this.processParticipantForInactivation(participant, participantsWithProblems))
-                .filter(Objects::nonNull).toList()
-        );
-        var inactivated = inactivatedParticipants.size();
-        var notInactivated = total - inactivated;
-        var problems = participantsWithProblems.size();
+    private ParticipantCSVDto rejectRow(ParticipantCSVDto dto, DataAccessException e) {
+        var message = "A linha não pôde ser salva e foi descartada: %s".formatted(e.getMostSpecificCause().getMessage());
+        return this.setParticipantWithProblem(dto, message);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(value = "participants.csv.import", extraTags = {"type", "inactivation"})
+    public ParticipantInactivationReport handleParticipantsInactivationCSVFile(InputStreamSource file) {
+        return this.handleParticipantsInactivationCSVFile(file, (processed, rejected) -> {});
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(value = "participants.csv.import", extraTags = {"type", "inactivation"})
+    public ParticipantInactivationReport handleParticipantsInactivationCSVFile(InputStreamSource file, BiConsumer<Integer, Integer> onChunkProcessed) {
+        var participantsWithProblems = new ArrayList<ParticipantCSVDto>();
+        var total = new AtomicInteger();
+        var inactivated = new AtomicInteger();
+
+        this.forEachChunk(file, (chunk, unreadableRows) -> {
+            var chunkProblems = new HashSet<ParticipantCSVDto>(unreadableRows);
+            int chunkInactivated;
+
+            try {
+                chunkInactivated = transactionTemplate.execute(status -> {
+                    var existingParticipants = this.filterExistingParticipantsByCpf(chunk, chunkProblems);
+
+                    var inactivatedParticipants = participantRepository.saveAll(existingParticipants.stream()
+                            .filter(Participant::getIsActive)
+                            .map(participant -> this.processParticipantForInactivation(participant, chunkProblems))
+                            .filter(Objects::nonNull).toList()
+                    );
+                    participantRepository.flush();
+                    entityManager.clear();
+                    eventPublisher.publishEvent(ParticipantsChangedEvent.of(inactivatedParticipants.stream()
+                            .map(Participant::getId)
+                            .toList()
+                    ));
+
+                    return inactivatedParticipants.size();
+                });
+            } catch (DataAccessException e) {
+                chunkInactivated = 0;
+                chunkProblems.clear();
+                chunkProblems.addAll(unreadableRows);
+                chunkProblems.addAll(this.rejectChunk(chunk, e));
+            }
+            total.addAndGet(chunk.size() + unreadableRows.size());
+            inactivated.addAndGet(chunkInactivated);
+            participantsWithProblems.addAll(chunkProblems);
+
+            this.countRows("inactivation", chunk.size() + unreadableRows.size(), chunkProblems.size());
+            onChunkProcessed.accept(chunk.size() + unreadableRows.size(), chunkProblems.size());
+        });
+        var notInactivated = total.get() - inactivated.get();
 
         return participantMapper.toParticipantInactivationReportDto(
-                total, inactivated, notInactivated, problems, new ArrayList<>(participantsWithProblems)
+                total.get(), inactivated.get(), notInactivated, participantsWithProblems.size(), participantsWithProblems
         );
     }
 
-    private Set<ParticipantCSVDto> parseCSV(MultipartFile file) {
+    // Each chunk commits in its own transaction. Rows OpenCSV cannot bind are reported per line instead of
+    // aborting the upload; only a syntax error before the first commit (e.g. an unclosed quote) rejects the file.
+    // A syntax error after that stops the import, keeps the chunks already committed and is listed in the report.
+    void forEachChunk(InputStreamSource file, BiConsumer<List<ParticipantCSVDto>, List<ParticipantCSVDto>> chunkConsumer) {
         try (
                 final var reader = new BufferedReader(new InputStreamReader((file.getInputStream())))
         ) {
-            var strategy = new HeaderColumnNameMappingStrategy<ParticipantCSVDto>();
-            strategy.setType(ParticipantCSVDto.class);
+            var csvToBean = this.createCsvToBean(reader);
+            var iterator = this.createCsvIterator(csvToBean);
+            var committed = false;
+            var interrupted = false;
+
+            while (!interrupted) {
+                var chunk = new ArrayList<ParticipantCSVDto>(chunkSize);
+                var unreadableRows = new ArrayList<ParticipantCSVDto>();
+
+                try {
+                    this.readChunk(iterator, chunk);
+                } catch (UnprocessableEntityException e) {
+                    if (!committed) throw e;
+
+                    unreadableRows.add(this.setParticipantWithProblem(new ParticipantCSVDto(),
+                            "A leitura do arquivo foi interrompida: %s As linhas seguintes não foram processadas.".formatted(e.getMessage())
+                    ));
+                    interrupted = true;
+                }
+                unreadableRows.addAll(0, this.drainUnreadableRows(csvToBean));
 
-            var csvToBean = new CsvToBeanBuilder<ParticipantCSVDto>(reader)
-                    .withMappingStrategy(strategy)
-                    .withIgnoreEmptyLine(true)
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .build();
+                if (chunk.isEmpty() && unreadableRows.isEmpty()) break;
 
-            return new HashSet<>(csvToBean.parse());
+                chunkConsumer.accept(chunk, unreadableRows);
+                committed = true;
+            }
         } catch (IOException e) {
             throw new InternalServerErrorException(e.getMessage(), e);
+        }
+    }
+
+    private CsvToBean<ParticipantCSVDto> createCsvToBean(BufferedReader reader) {
+        var strategy = new HeaderColumnNameMappingStrategy<ParticipantCSVDto>();
+        strategy.setType(ParticipantCSVDto.class);
+
+        return new CsvToBeanBuilder<ParticipantCSVDto>(reader)
+                .withMappingStrategy(strategy)
+                .withIgnoreEmptyLine(true)
+                .withIgnoreLeadingWhiteSpace(true)
+                .withThrowExceptions(false)
+                .build();
+    }
+
+    private Iterator<ParticipantCSVDto> createCsvIterator(CsvToBean<ParticipantCSVDto> csvToBean) {
+        try {
+            return csvToBean.iterator();
+        } catch (IllegalStateException | CsvBadConverterException  e) {
+            throw new UnprocessableEntityException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            throw new UnprocessableEntityException("A formatação do arquivo parece não estar correta.");
+        }
+    }
+
+    private void readChunk(Iterator<ParticipantCSVDto> iterator, List<ParticipantCSVDto> chunk) {
+        try {
+            while (chunk.size() < chunkSize && iterator.hasNext()) {
+                chunk.add(iterator.next());
+            }
         } catch (IllegalStateException | CsvBadConverterException  e) {
             throw new UnprocessableEntityException(e.getMessage(), e);
         } catch (RuntimeException e) {
@@ -148,6 +380,18 @@ public class ParticipantCSVService {
         }
     }
 
+    private List<ParticipantCSVDto> drainUnreadableRows(CsvToBean<ParticipantCSVDto> csvToBean) {
+        var capturedExceptions = csvToBean.getCapturedExceptions();
+        var unreadableRows = capturedExceptions.stream()
+                .map(e -> this.setParticipantWithProblem(new ParticipantCSVDto(),
+                        "A linha %d não pôde ser lida: %s".formatted(e.getLineNumber(), e.getMessage())
+                ))
+                .toList();
+
+        capturedExceptions.clear();
+        return unreadableRows;
+    }
+
     private Edition getCurrentEdition() {
         return editionService.findByStatusDifferentThen(Status.ENDED, Status.CANCELED)
                 .stream()
@@ -183,11 +427,30 @@ public class ParticipantCSVService {
         var validDtos = new ArrayList<ParticipantCSVDto>();
 
         dtos.forEach(dto -> {
-            try {
-                participantValidator.validateCpf(dto.getCpf());
+            var result = CpfValidationResult.validate(dto.getCpf());
+
+            if (result == CpfValidationResult.VALID) {
+                dto.setCpf(CpfValidationResult.format(dto.getCpf()));
                 validDtos.add(dto);
-            } catch (RuntimeException e) {
-                var message = "O campo 'cpf' está vazio, possui um cabeçalho inválido ou não está no formato correto.";
+            } else {
+                var message = (result == CpfValidationResult.EMPTY)
+                        ? "O campo 'cpf' está vazio ou possui um cabeçalho inválido."
+                        : result.value;
+                rejectedParticipants.add(this.setParticipantWithProblem(dto, message));
+            }
+        });
+        dtos.clear();
+        dtos.addAll(validDtos);
+    }
+
+    private void filterParticipantsRepeatedInFile(List<ParticipantCSVDto> dtos, Set<String> seenCpfs, Set<ParticipantCSVDto> rejectedParticipants) {
+        var validDtos = new ArrayList<ParticipantCSVDto>();
+
+        dtos.forEach(dto -> {
+            if (seenCpfs.add(dto.getCpf())) {
+                validDtos.add(dto);
+            } else {
+                var message = "O CPF %s aparece mais de uma vez no arquivo.".formatted(dto.getCpf());
                 rejectedParticipants.add(this.setParticipantWithProblem(dto, message));
             }
         });
@@ -251,27 +514,30 @@ public class ParticipantCSVService {
     }
 
     private List<EditionRegistration> registerAllParticipantsInEdition(List<Participant> participants, Edition currentEdition, HashMap<String, Long> teamsIdsByCpfMap, Set<ParticipantCSVDto> problematicParticipants) {
-        var teams = this.getTeams(currentEdition);
+        var teamsById = this.getTeamsById(currentEdition);
+        var rejectedCpfs = problematicParticipants.stream()
+                .map(ParticipantCSVDto::getCpf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
         var registrations = new ArrayList<EditionRegistration>();
 
         participants.forEach(participant -> {
-            var teamId = teamsIdsByCpfMap.get(participant.getCpf());
+            var team = teamsById.get(teamsIdsByCpfMap.get(participant.getCpf()));
 
+            if (team == null) {
+                problematicParticipants.add(participantMapper.toParticipantCSVDto(participant, null, "Equipe inválida ou inexistente."));
+                rejectedCpfs.add(participant.getCpf());
+                return;
+            }
             try {
-                var team = this.getTeamById(teams, teamId);
-
                 participantValidator.validateParticipantAndTeamActive(participant, team);
                 participantValidator.validateParticipantForEdition(participant, currentEdition)
                     .ifPresent(r -> {
                         throw new ConflictException("O participante já está inscrito na edição.");
                     });
                 registrations.add(registrationMapper.toNewEditionRegistration(participant, currentEdition, team));
-            } catch (NoSuchElementException e) {
-                var team = this.getTeamById(teams, teamId);
-                problematicParticipants.add(participantMapper.toParticipantCSVDto(participant, team.getName(), "Equipe inválida ou inexistente."));
             } catch (ConflictException | UnprocessableEntityException e) {
-                var team = this.getTeamById(teams, teamId);
-                if (findRejectedParticipantByCpf(participant.getCpf(), problematicParticipants).isEmpty()) {
+                if (rejectedCpfs.add(participant.getCpf())) {
                     problematicParticipants.add(participantMapper.toParticipantCSVDto(participant, team.getName(), e.getMessage()));
                 }
             }
@@ -279,26 +545,18 @@ public class ParticipantCSVService {
         return editionRegistrationRepository.saveAll(registrations);
     }
 
-    private List<Team> getTeams(Edition edition) {
+    private Map<Long, Team> getTeamsById(Edition edition) {
         return edition.getTeamScores()
                 .stream()
-                .map(TeamScore::getTeam).toList();
-    }
-
-    private Team getTeamById(List<Team> teams, Long id) throws NoSuchElementException {
-        return teams.stream()
-                .filter(t -> t.getId().equals(id))
-                .findFirst()
-                .orElseThrow();
-    }
-
-    private Optional<ParticipantCSVDto> findRejectedParticipantByCpf(String cpf, Set<ParticipantCSVDto> problematicParticipants) {
-        return problematicParticipants.stream()
-                .filter(participants -> participants.getCpf().equals(cpf))
-                .findFirst();
+                .map(TeamScore::getTeam)
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
     }
 
     private List<Participant> filterExistingParticipantsByCpf(List<ParticipantCSVDto> dtos, Set<ParticipantCSVDto> rejectedParticipants) {
+        dtos.forEach(dto -> {
+            var formattedCpf = CpfValidationResult.format(dto.getCpf());
+            if (formattedCpf != null) dto.setCpf(formattedCpf);
+        });
         var cpfs = dtos.stream()
                 .map(ParticipantCSVDto::getCpf)
                 .filter(Objects::nonNull)
@@ -352,4 +610,24 @@ public class ParticipantCSVService {
                 .orElse("Sem equipe.");
     }
 
+    static final class RegistrationTotals {
+
+        private int total;
+        private int added;
+        private int notAdded;
+        private int registered;
+        private int rejected;
+        private int notRegistered;
+
+        private void add(RegistrationTotals other) {
+            total += other.total;
+            added += other.added;
+            notAdded += other.notAdded;
+            registered += other.registered;
+            rejected += other.rejected;
+            notRegistered += other.notRegistered;
+        }
+
+    }
+
 }
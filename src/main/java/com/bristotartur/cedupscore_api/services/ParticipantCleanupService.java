@@ -0,0 +1,39 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.events.EditionDeletedEvent;
+import com.bristotartur.cedupscore_api.events.ParticipantsChangedEvent;
+import com.bristotartur.cedupscore_api.repositories.EventRegistrationRepository;
+import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ParticipantCleanupService {
+
+    private final ParticipantRepository participantRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Timed(value = "participants.orphans.cleanup")
+    public void onEditionDeleted(EditionDeletedEvent event) {
+        eventRegistrationRepository.deleteAllWithoutEditionRegistration();
+        participantRepository.deleteNameGramsWithoutEditionRegistration();
+
+        var deleted = participantRepository.deleteAllWithoutEditionRegistration();
+
+        meterRegistry.counter("participants.orphans.deleted").increment(deleted);
+
+        if (deleted > 0) eventPublisher.publishEvent(ParticipantsChangedEvent.bulk());
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.domain.Participant;
+import com.bristotartur.cedupscore_api.dtos.request.ParticipantFilterDto;
+import com.bristotartur.cedupscore_api.enums.Gender;
+import com.bristotartur.cedupscore_api.enums.ParticipantType;
+import com.bristotartur.cedupscore_api.events.EditionDeletedEvent;
+import com.bristotartur.cedupscore_api.events.EventRegistrationsChangedEvent;
+import com.bristotartur.cedupscore_api.events.ParticipantsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class ParticipantCountService {
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter skipped;
+
+    private final Cache<CountKey, Long> countsByFilter;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ParticipantCountService(
+            @Value("${api.participants.count-cache.ttl}") Long ttl,
+            @Value("${api.participants.count-cache.max-size}") Long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.countsByFilter = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .maximumSize(maxSize)
+                .build();
+        this.hits = this.registerCounter(meterRegistry, "hit");
+        this.misses = this.registerCounter(meterRegistry, "miss");
+        this.skipped = this.registerCounter(meterRegistry, "skipped");
+    }
+
+    public long count(ParticipantFilterDto filter, List<Long> excludeIds, LongSupplier counter) {
+        var key = CountKey.of(filter, excludeIds);
+        var cached = countsByFilter.getIfPresent(key);
+
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        var expectedGeneration = generation.get();
+        var total = counter.getAsLong();
+
+        countsByFilter.asMap().compute(key, (k, current) ->
+                (generation.get() == expectedGeneration) ? total : current
+        );
+        return total;
+    }
+
+    public void recordSkipped() {
+        skipped.increment();
+    }
+
+    @TransactionalEventListener
+    public void onParticipantsChanged(ParticipantsChangedEvent event) {
+        this.invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onEventRegistrationsChanged(EventRegistrationsChangedEvent event) {
+        this.invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onEditionDeleted(EditionDeletedEvent event) {
+        this.invalidate();
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        countsByFilter.invalidateAll();
+    }
+
+    private Counter registerCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("participants.count.cache")
+                .description("Total counts of filtered participant pages by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CountKey(
+            String name,
+            boolean namePrefix,
+            Long edition,
+            Long event,
+            Long notInEvent,
+            Long team,
+            Gender gender,
+            ParticipantType type,
+            String status,
+            List<Long> excludeIds
+    ) {
+
+        private static CountKey of(ParticipantFilterDto filter, List<Long> excludeIds) {
+            var name = (filter.name() != null && !filter.name().isEmpty())
+                    ? Participant.normalizeName(filter.name())
+                    : null;
+            var ids = (excludeIds != null)
+                    ? excludeIds.stream().distinct().sorted().toList()
+                    : List.<Long>of();
+
+            return new CountKey(
+                    name,
+                    filter.matchesNamePrefix(),
+                    filter.edition(),
+                    filter.event(),
+                    filter.notInEvent(),
+                    filter.team(),
+                    filter.gender(),
+                    filter.type(),
+                    filter.status(),
+                    ids
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.dtos.response.ImportJobResponseDto;
+import com.bristotartur.cedupscore_api.enums.ImportJobStatus;
+import com.bristotartur.cedupscore_api.exceptions.InternalServerErrorException;
+import com.bristotartur.cedupscore_api.exceptions.NotFoundException;
+import com.bristotartur.cedupscore_api.exceptions.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+@Component
+@RequiredArgsConstructor
+public class ParticipantImportJobService {
+
+    private final ParticipantCSVService participantCSVService;
+
+    @Value("${api.csv.jobs.concurrency}")
+    private Integer concurrency;
+
+    @Value("${api.csv.jobs.queue-capacity}")
+    private Integer queueCapacity;
+
+    @Value("${api.csv.jobs.retention}")
+    private Long retention;
+
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("csv-import-", 0).factory()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public ImportJobResponseDto submitRegistrationJob(MultipartFile file) {
+        return this.submit("registration", file, participantCSVService::handleParticipantsRegistrationCSVFile);
+    }
+
+    public ImportJobResponseDto submitInactivationJob(MultipartFile file) {
+        return this.submit("inactivation", file, participantCSVService::handleParticipantsInactivationCSVFile);
+    }
+
+    public ImportJobResponseDto findJobById(UUID id) {
+        this.removeExpiredJobs();
+
+        var job = jobs.get(id);
+
+        if (job == null) throw new NotFoundException("Importação não encontrada.");
+
+        return job.toResponseDto();
+    }
+
+    private ImportJobResponseDto submit(String type, MultipartFile file,
+                                        BiFunction<FileSystemResource, BiConsumer<Integer, Integer>, Object> importer) {
+        this.removeExpiredJobs();
+
+        var path = this.copyToTempFile(file);
+        var job = new ImportJob(UUID.randomUUID(), type);
+
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> this.run(job, path, importer));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            this.deleteTempFile(path);
+            throw new ServiceUnavailableException("Há muitas importações em andamento. Tente novamente mais tarde.", e);
+        }
+        return job.toResponseDto();
+    }
+
+    private void run(ImportJob job, Path path,
+                     BiFunction<FileSystemResource, BiConsumer<Integer, Integer>, Object> importer) {
+        job.status = ImportJobStatus.RUNNING;
+
+        try {
+            job.report = importer.apply(new FileSystemResource(path), (processed, rejected) -> {
+                job.processed.addAndGet(processed);
+                job.rejected.addAndGet(rejected);
+            });
+            job.status = ImportJobStatus.COMPLETED;
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            job.status = ImportJobStatus.FAILED;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            this.deleteTempFile(path);
+        }
+    }
+
+    private Path copyToTempFile(MultipartFile file) {
+        try {
+            var path = Files.createTempFile("participants-import-", ".csv");
+            file.transferTo(path);
+            return path;
+        } catch (IOException e) {
+            throw new InternalServerErrorException(e.getMessage(), e);
+        }
+    }
+
+    private void deleteTempFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void removeExpiredJobs() {
+        var limit = LocalDateTime.now().minus(Duration.ofMillis(retention));
+
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(limit));
+    }
+
+    private static final class ImportJob {
+
+        private final UUID id;
+        private final String type;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private volatile ImportJobStatus status = ImportJobStatus.PENDING;
+        private volatile Object report;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private ImportJob(UUID id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        private ImportJobResponseDto toResponseDto() {
+            return new ImportJobResponseDto(
+                    id, type, status, processed.get(), rejected.get(), report, error, createdAt, finishedAt
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.domain.Participant;
+import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class ParticipantSearchIndexService {
+
+    private final ParticipantRepository participantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${api.participants.search-index.backfill-batch-size}")
+    private Integer batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexParticipantsWithoutSearchName() {
+        int indexed;
+
+        do {
+            var count = transactionTemplate.execute(status -> {
+                var participants = participantRepository.findWithoutSearchName(PageRequest.of(0, batchSize));
+
+                participants.forEach(Participant::updateSearchKeys);
+                entityManager.flush();
+                entityManager.clear();
+
+                return participants.size();
+            });
+            indexed = (count != null) ? count : 0;
+        } while (indexed == batchSize);
+    }
+
+}
@@ -3,20 +3,35 @@ package com.bristotartur.cedupscore_api.services;
 import com.bristotartur.cedupscore_api.domain.EventRegistration;
 import com.bristotartur.cedupscore_api.domain.Participant;
 import com.bristotartur.cedupscore_api.domain.Team;
+import com.bristotartur.cedupscore_api.dtos.projections.EditionRegistrationSummary;
+import com.bristotartur.cedupscore_api.dtos.projections.EventRegistrationSummary;
+import com.bristotartur.cedupscore_api.dtos.projections.ParticipantEventState;
+import com.bristotartur.cedupscore_api.dtos.projections.ParticipantSummary;
+import com.bristotartur.cedupscore_api.dtos.projections.TeamRegistrationCount;
 import com.bristotartur.cedupscore_api.dtos.request.EventRegistrationRequestDto;
+import com.bristotartur.cedupscore_api.dtos.request.KeysetCursor;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantFilterDto;
 import com.bristotartur.cedupscore_api.dtos.request.ParticipantRequestDto;
+import com.bristotartur.cedupscore_api.dtos.response.EventRegistrationResponseDto;
 import com.bristotartur.cedupscore_api.dtos.response.ParticipantResponseDto;
+import com.bristotartur.cedupscore_api.dtos.response.SliceResponseDto;
 import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.events.EventRegistrationsChangedEvent;
+import com.bristotartur.cedupscore_api.events.ParticipantsChangedEvent;
+import com.bristotartur.cedupscore_api.exceptions.ConflictException;
 import com.bristotartur.cedupscore_api.exceptions.NotFoundException;
 import com.bristotartur.cedupscore_api.exceptions.UnprocessableEntityException;
 import com.bristotartur.cedupscore_api.mappers.ParticipantMapper;
 import com.bristotartur.cedupscore_api.mappers.RegistrationMapper;
+import com.bristotartur.cedupscore_api.mappers.TeamMapper;
 import com.bristotartur.cedupscore_api.repositories.EditionRegistrationRepository;
 import com.bristotartur.cedupscore_api.repositories.EventRegistrationRepository;
 import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -25,9 +40,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.bristotartur.cedupscore_api.repositories.ParticipantSpecifications.*;
 
@@ -36,45 +51,150 @@ import static com.bristotartur.cedupscore_api.repositories.ParticipantSpecificat
 @Transactional
 public class ParticipantService {
 
+    private static final int REGISTRATIONS_CHUNK_SIZE = 1000;
+
     private final ParticipantRepository participantRepository;
     private final EditionRegistrationRepository editionRegistrationRepository;
     private final EventRegistrationRepository eventRegistrationRepository;
     private final ParticipantMapper participantMapper;
     private final RegistrationMapper registrationMapper;
+    private final TeamMapper teamMapper;
     private final TeamService teamService;
     private final EditionService editionService;
     private final EventService eventService;
     private final ParticipantValidationService participantValidator;
+    private final ParticipantCountService participantCountService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    @Timed(value = "participants.list", extraTags = {"mode", "page"})
+    public Page<ParticipantResponseDto> findAllParticipants(ParticipantFilterDto filter, Pageable pageable) {
+        var sort = this.createSort(filter);
+        var spec = this.createSpecification(filter);
+
+        return this.findPage(spec, filter, List.of(), PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
+    }
+
+    @Transactional(readOnly = true)
+    @Timed(value = "participants.list", extraTags = {"mode", "exclude-ids"})
+    public Page<ParticipantResponseDto> findAllParticipants(ParticipantFilterDto filter, List<Long> excludeIds, Pageable pageable) {
+        var sort = this.createSort(filter);
+        var spec = this.createSpecification(filter).and(withoutIds(excludeIds));
 
-    public Page<Participant> findAllParticipants(ParticipantFilterDto filter, Pageable pageable) {
+        return this.findPage(spec, filter, excludeIds, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
+    }
+
+    @Transactional(readOnly = true)
+    @Timed(value = "participants.list", extraTags = {"mode", "slice"})
+    public SliceResponseDto<ParticipantResponseDto> findAllParticipantsWithoutCount(ParticipantFilterDto filter, Pageable pageable) {
+        var sort = this.createSort(filter);
+        var spec = this.createSpecification(filter);
+        var size = pageable.getPageSize();
+        var ids = participantRepository.findIds(spec, sort, pageable.getOffset(), size + 1);
+
+        var hasNext = ids.size() > size;
+        var dtos = this.createParticipantResponseDtos((hasNext) ? ids.subList(0, size) : ids, filter);
+
+        participantCountService.recordSkipped();
+        return new SliceResponseDto<>(dtos, size, hasNext, null);
+    }
+
+    @Transactional(readOnly = true)
+    @Timed(value = "participants.list", extraTags = {"mode", "cursor"})
+    public SliceResponseDto<ParticipantResponseDto> findAllParticipants(ParticipantFilterDto filter, String after, Pageable pageable) {
+        var cursor = KeysetCursor.decode(after);
         var order = (filter.order() != null) ? filter.order() : "";
+        var size = pageable.getPageSize();
+
         var sort = switch (order) {
-            case "a-z" -> Sort.by("name").ascending();
-            case "z-a" -> Sort.by("name").descending();
+            case "a-z" -> Sort.by("name").ascending().and(Sort.by("id").ascending());
+            case "z-a" -> Sort.by("name").descending().and(Sort.by("id").descending());
 
             default -> Sort.by("id").descending();
         };
-        var spec = Specification.where(hasName(filter.name())
-                .and(fromEdition(filter.edition()))
-                .and(fromEvent(filter.event(), filter.edition()))
-                .and(notFromEvent(filter.notInEvent(), filter.edition()))
-                .and(fromTeam(filter.team(), filter.edition()))
-                .and(hasGender(filter.gender()))
-                .and(hasType(filter.type()))
-                .and(hasStatus(filter.status()))
-        );
-        return participantRepository.findAll(spec, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
+        var seek = switch (order) {
+            case "a-z" -> (cursor != null) ? afterName(cursor.value(), cursor.id(), true) : null;
+            case "z-a" -> (cursor != null) ? afterName(cursor.value(), cursor.id(), false) : null;
+
+            default -> afterId((cursor != null) ? cursor.id() : null);
+        };
+        var spec = this.createSpecification(filter).and(seek);
+        var ids = participantRepository.findIds(spec, sort, 0, size + 1);
+
+        var hasNext = ids.size() > size;
+        var dtos = this.createParticipantResponseDtos((hasNext) ? ids.subList(0, size) : ids, filter);
+
+        var nextCursor = (hasNext)
+                ? new KeysetCursor(dtos.getLast().id, dtos.getLast().name).encode()
+                : null;
+
+        return new SliceResponseDto<>(dtos, size, hasNext, nextCursor);
+    }
+
+    private Page<ParticipantResponseDto> findPage(Specification<Participant> spec, ParticipantFilterDto filter, List<Long> excludeIds, Pageable pageable) {
+        var ids = participantRepository.findIds(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        var total = participantCountService.count(filter, excludeIds, () -> participantRepository.count(spec));
+
+        return new PageImpl<>(this.createParticipantResponseDtos(ids, filter), pageable, total);
+    }
+
+    private List<ParticipantResponseDto> createParticipantResponseDtos(List<Long> ids, ParticipantFilterDto filter) {
+        if (ids.isEmpty()) return List.of();
+
+        var idToSummaryMap = participantRepository.findSummariesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ParticipantSummary::id, Function.identity()));
+        var idToEditionRegistrationsMap = editionRegistrationRepository.findSummariesByParticipantIdIn(ids)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        EditionRegistrationSummary::participantId,
+                        Collectors.mapping(registration -> registrationMapper.toEditionRegistrationResponseDto(
+                                registration,
+                                teamMapper.toTeamResponseDto(registration.teamId(), registration.teamName(), registration.teamLogoUrl(), registration.teamIsActive())
+                        ), Collectors.toList())
+                ));
+        var idToEventRegistrationMap = (filter.event() != null)
+                ? eventRegistrationRepository.findSummariesByEventIdAndParticipantIdIn(filter.event(), ids)
+                        .stream()
+                        .collect(Collectors.toMap(EventRegistrationSummary::participantId, registration -> registrationMapper.toEventRegistrationResponseDto(
+                                registration,
+                                teamMapper.toTeamResponseDto(registration.teamId(), registration.teamName(), registration.teamLogoUrl(), registration.teamIsActive())
+                        ), (first, second) -> first))
+                : Map.<Long, EventRegistrationResponseDto>of();
+
+        return ids.stream()
+                .map(id -> {
+                    var summary = idToSummaryMap.get(id);
+                    var editionRegistrations = idToEditionRegistrationsMap.getOrDefault(id, List.of());
+                    var eventRegistration = idToEventRegistrationMap.get(id);
+
+                    return (eventRegistration != null)
+                            ? participantMapper.toParticipantResponseDto(summary, editionRegistrations, eventRegistration)
+                            : participantMapper.toParticipantResponseDto(summary, editionRegistrations);
+                }).toList();
     }
 
-    public Page<Participant> findAllParticipants(ParticipantFilterDto filter, List<Long> excludeIds, Pageable pageable) {
+    public Stream<Participant> streamAllParticipants(ParticipantFilterDto filter, int fetchSize) {
+        var sort = this.createSort(filter);
+        var spec = this.createSpecification(filter);
+
+        return participantRepository.streamAll(spec, sort, fetchSize);
+    }
+
+    private Sort createSort(ParticipantFilterDto filter) {
         var order = (filter.order() != null) ? filter.order() : "";
-        var sort = switch (order) {
+
+        return switch (order) {
             case "a-z" -> Sort.by("name").ascending();
             case "z-a" -> Sort.by("name").descending();
 
             default -> Sort.by("id").descending();
         };
-        var spec = Specification.where(hasName(filter.name())
+    }
+
+    private Specification<Participant> createSpecification(ParticipantFilterDto filter) {
+
+        return Specification.where(hasName(filter.name(), filter.matchesNamePrefix())
                 .and(fromEdition(filter.edition()))
                 .and(fromEvent(filter.event(), filter.edition()))
                 .and(notFromEvent(filter.notInEvent(), filter.edition()))
@@ -82,9 +202,7 @@ public class ParticipantService {
                 .and(hasGender(filter.gender()))
                 .and(hasType(filter.type()))
                 .and(hasStatus(filter.status()))
-                .and(withoutIds(excludeIds))
         );
-        return participantRepository.findAll(spec, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
     }
 
     public Participant findParticipantById(Long id) {
@@ -94,8 +212,8 @@ public class ParticipantService {
     }
 
     public Participant findParticipantByCpf(String cpf) {
-        participantValidator.validateCpf(cpf);
-        return participantRepository.findByCpf(cpf)
+        var formattedCpf = participantValidator.validateCpf(cpf);
+        return participantRepository.findByCpf(formattedCpf)
                 .orElseThrow(() -> new NotFoundException("Participante não encontrado."));
     }
 
@@ -126,15 +244,16 @@ public class ParticipantService {
     }
 
     public Participant saveParticipant(ParticipantRequestDto dto) {
-        participantValidator.validateCpf(dto.cpf());
+        var cpf = participantValidator.validateCpf(dto.cpf());
 
-        participantRepository.findByCpf(dto.cpf()).stream()
+        participantRepository.findByCpf(cpf).stream()
                 .findFirst()
                 .ifPresent(p -> {
                     throw new UnprocessableEntityException("O CPF fornecido já está em uso.");
                 });
         var participant = participantMapper.toNewParticipant(dto);
         participant.setName(participant.getName().toUpperCase(Locale.ROOT));
+        participant.setCpf(cpf);
 
         var currentEdition = editionService.findByStatusDifferentThen(Status.ENDED, Status.CANCELED)
                 .stream()
@@ -163,6 +282,8 @@ public class ParticipantService {
                 registrationMapper.toNewEditionRegistration(participant, edition, team)
         );
         participant.getEditionRegistrations().add(registration);
+        eventPublisher.publishEvent(ParticipantsChangedEvent.of(participant.getId()));
+
         return participant;
     }
 
@@ -180,58 +301,61 @@ public class ParticipantService {
                 registrationMapper.toNewEventRegistration(participant, event, team)
         );
         participant.getEventRegistrations().add(registration);
+        eventPublisher.publishEvent(new EventRegistrationsChangedEvent(eventId));
+
         return participant;
     }
 
-    public List<Participant> registerAllParticipantsInEvent(List<EventRegistrationRequestDto> dtos, Long eventId) {
+    @Timed(value = "participants.event.registration")
+    public List<EventRegistration> registerAllParticipantsInEvent(List<EventRegistrationRequestDto> dtos, Long eventId) {
         var event = eventService.findEventById(eventId);
-        var teamToParticipants = this.createTeamToParticipantsMap(dtos);
+        var requests = dtos.stream().distinct().toList();
 
-        var registrations = new HashSet<EventRegistration>();
-        var teamToRegistrationCounts = event.getRegistrations()
+        var participantsIds = requests.stream()
+                .map(EventRegistrationRequestDto::participantId).collect(Collectors.toSet());
+        var teamsIds = requests.stream()
+                .map(EventRegistrationRequestDto::teamId).collect(Collectors.toSet());
+
+        var idToStateMap = participantRepository.findEventStatesByIdIn(participantsIds, event.getEdition().getId(), eventId)
                 .stream()
-                .collect(Collectors.groupingBy(
-                        EventRegistration::getTeam, Collectors.counting())
-                );
-        teamToParticipants.forEach((team, participants) -> {
-            var registeredParticipantsCount = new AtomicInteger(teamToRegistrationCounts.getOrDefault(team, 0L).intValue());
-
-            participants.forEach(participant -> {
-                participantValidator.validateParticipantAndTeamActive(participant, team);
-                participantValidator.validateParticipantTeamForEvent(participant, team, event);
-                participantValidator.validateParticipantForEvent(participant, event, registeredParticipantsCount.get());
-
-                registeredParticipantsCount.incrementAndGet();
-                registrations.add(registrationMapper.toNewEventRegistration(participant, event, team));
-            });
-        });
-        return eventRegistrationRepository.saveAll(registrations)
+                .collect(Collectors.toMap(ParticipantEventState::id, Function.identity(), (first, second) -> first));
+        var idToTeamMap = teamService.findAllTeamsById(teamsIds)
                 .stream()
-                .map(EventRegistration::getParticipant).toList();
-    }
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        var teamToRegistrationCounts = eventRegistrationRepository.countByEventIdGroupByTeam(eventId)
+                .stream()
+                .collect(Collectors.toMap(
+                        TeamRegistrationCount::teamId, count -> count.count().intValue(), Integer::sum, HashMap::new
+                ));
+        var registrations = new ArrayList<EventRegistration>(requests.size());
 
-    private Map<Team, List<Participant>> createTeamToParticipantsMap(List<EventRegistrationRequestDto> dtos) {
-        var participantIds = dtos.stream()
-                .map(EventRegistrationRequestDto::participantId).collect(Collectors.toSet());
-        var teamsIds = dtos.stream()
-                .map(EventRegistrationRequestDto::teamId).collect(Collectors.toSet());
+        for (var dto : requests) {
+            var participant = this.getStateById(idToStateMap, dto.participantId());
+            var team = this.getTeamById(idToTeamMap, dto.teamId());
+            var registeredParticipants = teamToRegistrationCounts.getOrDefault(team.getId(), 0);
 
-        var participants = participantRepository.findAllById(participantIds);
-        var teams = teamService.findAllTeamsById(teamsIds);
+            participantValidator.validateParticipantStateForEvent(participant, team, event, registeredParticipants);
 
-        var idToParticipants = participants.stream()
-                .collect(Collectors.toMap(Participant::getId, Function.identity()));
-        var idToTeams = teams.stream()
-                .collect(Collectors.toMap(Team::getId, Function.identity()));
+            teamToRegistrationCounts.put(team.getId(), registeredParticipants + 1);
+            registrations.add(registrationMapper.toNewEventRegistration(
+                    participantRepository.getReferenceById(participant.id()), event, team
+            ));
+        }
+        eventPublisher.publishEvent(new EventRegistrationsChangedEvent(eventId));
 
-        return dtos.stream()
-                .collect(Collectors.groupingBy(
-                        dto -> this.getTeamById(idToTeams, dto.teamId()),
-                        Collectors.mapping(
-                                dto -> this.getParticipantById(idToParticipants, dto.participantId()),
-                                Collectors.toList()
-                        )
-                ));
+        return eventRegistrationRepository.saveAll(registrations);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ParticipantResponseDto> createEventRegistrationResponseDtos(List<EventRegistration> registrations) {
+        if (registrations.isEmpty()) return List.of();
+
+        var ids = registrations.stream()
+                .map(registration -> registration.getParticipant().getId())
+                .toList();
+        var eventId = registrations.getFirst().getEvent().getId();
+
+        return this.createParticipantResponseDtos(ids, new ParticipantFilterDto(null, null, eventId, null, null, null, null, null, null, null));
     }
 
     private Team getTeamById(Map<Long, Team> idToTeams, Long teamId) {
@@ -240,9 +364,9 @@ public class ParticipantService {
                 .orElseThrow(() -> new NotFoundException("Equipe não encontrada."));
     }
 
-    private Participant getParticipantById(Map<Long, Participant> idToParticipants, Long participantId) {
+    private ParticipantEventState getStateById(Map<Long, ParticipantEventState> idToStates, Long participantId) {
 
-        return Optional.ofNullable(idToParticipants.get(participantId))
+        return Optional.ofNullable(idToStates.get(participantId))
                 .orElseThrow(() -> new NotFoundException("Participante não encontrado."));
     }
 
@@ -259,6 +383,7 @@ public class ParticipantService {
             throw new UnprocessableEntityException("O participante não pode ser removido.");
         }
         participantRepository.delete(participant);
+        eventPublisher.publishEvent(ParticipantsChangedEvent.of(id));
     }
 
     public void deleteEditionRegistration(Long id, Long registrationId) {
@@ -270,6 +395,7 @@ public class ParticipantService {
 
         participant.getEditionRegistrations().remove(registration);
         editionRegistrationRepository.delete(registration);
+        eventPublisher.publishEvent(ParticipantsChangedEvent.of(id));
     }
 
     public void deleteEventRegistration(Long id, Long registrationId) {
@@ -281,24 +407,51 @@ public class ParticipantService {
 
         participant.getEventRegistrations().remove(registration);
         eventRegistrationRepository.delete(registration);
+        eventPublisher.publishEvent(new EventRegistrationsChangedEvent(registration.getEvent().getId()));
     }
 
-    public void deleteAllEventRegistrationsById(Long eventId, List<Long> registrationsIds) {
-        var event = eventService.findEventById(eventId);
-        var eventStatus = event.getStatus();
+    public Integer deleteAllEventRegistrationsById(Long eventId, List<Long> registrationsIds) {
+        var ids = registrationsIds.stream().distinct().toList();
+
+        if (ids.isEmpty()) return 0;
+
+        var chunks = new ArrayList<List<Long>>();
+        var owned = 0L;
 
-        if (!eventStatus.equals(Status.SCHEDULED)) {
-            throw new UnprocessableEntityException("Nenhum participante pode ser desinscrito, pois o evento não está mais agendado.");
+        for (int i = 0; i < ids.size(); i += REGISTRATIONS_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + REGISTRATIONS_CHUNK_SIZE, ids.size())));
+        }
+        for (var chunk : chunks) {
+            var ownership = eventRegistrationRepository.findOwnershipByEventIdAndIdIn(eventId, chunk)
+                    .orElseThrow(() -> new NotFoundException("Evento não encontrado."));
+
+            if (!ownership.status().equals(Status.SCHEDULED)) {
+                throw new UnprocessableEntityException("Nenhum participante pode ser desinscrito, pois o evento não está mais agendado.");
+            }
+            owned += ownership.registrations();
+        }
+        if (owned != ids.size()) {
+            throw new ConflictException("Uma ou mais inscrições informadas não pertencem ao evento.");
         }
-        eventRegistrationRepository.deleteAllById(registrationsIds);
+        var removed = 0;
+
+        for (var chunk : chunks) {
+            removed += eventRegistrationRepository.deleteByEventIdAndIdIn(eventId, Status.SCHEDULED, chunk);
+        }
+        if (removed != ids.size()) {
+            throw new ConflictException("O evento foi alterado durante a remoção das inscrições. Tente novamente.");
+        }
+        eventPublisher.publishEvent(new EventRegistrationsChangedEvent(eventId));
+        return removed;
     }
 
     public Participant replaceParticipant(Long id, ParticipantRequestDto dto) {
         var participant = this.findParticipantById(id);
         var isActive = participant.getIsActive();
 
-        participantValidator.validateCpf(dto.cpf());
-        participantRepository.findByCpf(dto.cpf()).stream()
+        var cpf = participantValidator.validateCpf(dto.cpf());
+
+        participantRepository.findByCpf(cpf).stream()
                 .findFirst()
                 .ifPresent(p -> {
                     if (!p.equals(participant)) {
@@ -307,6 +460,9 @@ public class ParticipantService {
                 });
         var newParticipant = participantMapper.toExistingParticipant(id, dto, isActive);
         newParticipant.setName(newParticipant.getName().toUpperCase(Locale.ROOT));
+        newParticipant.setCpf(cpf);
+        newParticipant.updateSearchKeys();
+        eventPublisher.publishEvent(ParticipantsChangedEvent.of(id));
 
         return participantRepository.save(newParticipant);
     }
@@ -318,6 +474,7 @@ public class ParticipantService {
 
         this.participantValidator.validateParticipantToChangeStatus(participant);
         participant.setIsActive(status);
+        eventPublisher.publishEvent(ParticipantsChangedEvent.of(id));
 
         return participantRepository.save(participant);
     }
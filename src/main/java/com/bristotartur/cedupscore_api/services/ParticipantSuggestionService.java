@@ -0,0 +1,261 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.domain.Participant;
+import com.bristotartur.cedupscore_api.dtos.response.ParticipantSuggestionDto;
+import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.events.EditionDeletedEvent;
+import com.bristotartur.cedupscore_api.events.EditionStatusChangedEvent;
+import com.bristotartur.cedupscore_api.events.ParticipantsChangedEvent;
+import com.bristotartur.cedupscore_api.events.TeamUpdatedEvent;
+import com.bristotartur.cedupscore_api.repositories.EditionRegistrationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@RequiredArgsConstructor
+public class ParticipantSuggestionService {
+
+    private static final List<Status> CLOSED_EDITION_STATUSES = List.of(Status.ENDED, Status.CANCELED);
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final EditionRegistrationRepository editionRegistrationRepository;
+
+    @Value("${api.participants.suggest.max-limit}")
+    private Integer maxLimit;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("participant-suggestions").factory()
+    );
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final Set<Long> pendingParticipantIds = ConcurrentHashMap.newKeySet();
+    private volatile SuggestionIndex index = SuggestionIndex.EMPTY;
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public List<ParticipantSuggestionDto> suggest(String name, Integer limit) {
+        if (name == null || name.isBlank()) return List.of();
+
+        var searchName = Participant.normalizeName(name);
+        var maxResults = (limit == null || limit < 1) ? maxLimit : Math.min(limit, maxLimit);
+
+        return index.search(searchName, maxResults);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        this.scheduleRebuild();
+    }
+
+    // Changes that list their participants only reload those participants' rows; the rest of the index is reused.
+    @TransactionalEventListener
+    public void onParticipantsChanged(ParticipantsChangedEvent event) {
+        if (event.isBulk()) {
+            this.scheduleRebuild();
+            return;
+        }
+        pendingParticipantIds.addAll(event.participantIds());
+
+        if (refreshPending.compareAndSet(false, true)) {
+            executor.execute(this::refresh);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEditionStatusChanged(EditionStatusChangedEvent event) {
+        this.scheduleRebuild();
+    }
+
+    @TransactionalEventListener
+    public void onEditionDeleted(EditionDeletedEvent event) {
+        this.scheduleRebuild();
+    }
+
+    @TransactionalEventListener
+    public void onTeamUpdated(TeamUpdatedEvent event) {
+        this.scheduleRebuild();
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            executor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        rebuildPending.set(false);
+
+        var suggestions = editionRegistrationRepository.findSuggestionsByEditionStatusNotIn(CLOSED_EDITION_STATUSES);
+        index = SuggestionIndex.of(suggestions);
+    }
+
+    private void refresh() {
+        refreshPending.set(false);
+
+        var participantIds = new ArrayList<Long>();
+
+        for (var iterator = pendingParticipantIds.iterator(); iterator.hasNext(); ) {
+            participantIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (participantIds.isEmpty()) return;
+
+        var suggestions = new ArrayList<ParticipantSuggestionDto>();
+
+        for (int i = 0; i < participantIds.size(); i += REFRESH_BATCH_SIZE) {
+            suggestions.addAll(editionRegistrationRepository.findSuggestionsByParticipantIdInAndEditionStatusNotIn(
+                    participantIds.subList(i, Math.min(i + REFRESH_BATCH_SIZE, participantIds.size())), CLOSED_EDITION_STATUSES
+            ));
+        }
+        index = index.replace(new HashSet<>(participantIds), suggestions);
+    }
+
+    private record SuggestionIndex(
+            String[] searchNames,
+            ParticipantSuggestionDto[] suggestions,
+            Map<String, int[]> positionsByGram
+    ) {
+
+        private static final SuggestionIndex EMPTY = new SuggestionIndex(new String[0], new ParticipantSuggestionDto[0], Map.of());
+
+        private static SuggestionIndex of(List<ParticipantSuggestionDto> suggestions) {
+            return SuggestionIndex.ofEntries(suggestions.stream()
+                    .map(SuggestionIndex::toEntry)
+                    .toList());
+        }
+
+        private static Map.Entry<String, ParticipantSuggestionDto> toEntry(ParticipantSuggestionDto suggestion) {
+            return Map.entry(Participant.normalizeName(suggestion.name()), suggestion);
+        }
+
+        private static SuggestionIndex ofEntries(List<Map.Entry<String, ParticipantSuggestionDto>> namedSuggestions) {
+            var sorted = namedSuggestions.stream()
+                    .sorted(Map.Entry.<String, ParticipantSuggestionDto>comparingByKey()
+                            .thenComparing(entry -> entry.getValue().id()))
+                    .toList();
+
+            var searchNames = new String[sorted.size()];
+            var entries = new ParticipantSuggestionDto[sorted.size()];
+            var positionLists = new HashMap<String, List<Integer>>();
+
+            for (int i = 0; i < sorted.size(); i++) {
+                var position = i;
+
+                searchNames[i] = sorted.get(i).getKey();
+                entries[i] = sorted.get(i).getValue();
+                Participant.createNameGrams(searchNames[i])
+                        .forEach(gram -> positionLists.computeIfAbsent(gram, k -> new ArrayList<>()).add(position));
+            }
+            var positionsByGram = new HashMap<String, int[]>(positionLists.size());
+
+            positionLists.forEach((gram, positions) ->
+                    positionsByGram.put(gram, positions.stream().mapToInt(Integer::intValue).toArray())
+            );
+            return new SuggestionIndex(searchNames, entries, positionsByGram);
+        }
+
+        // Drops every row of the given participants and adds their current rows, keeping the names already normalized.
+        private SuggestionIndex replace(Set<Long> participantIds, List<ParticipantSuggestionDto> replacements) {
+            var entries = new ArrayList<Map.Entry<String, ParticipantSuggestionDto>>(searchNames.length + replacements.size());
+
+            for (int i = 0; i < searchNames.length; i++) {
+                if (!participantIds.contains(suggestions[i].id())) {
+                    entries.add(Map.entry(searchNames[i], suggestions[i]));
+                }
+            }
+            replacements.forEach(suggestion -> entries.add(SuggestionIndex.toEntry(suggestion)));
+
+            return SuggestionIndex.ofEntries(entries);
+        }
+
+        private List<ParticipantSuggestionDto> search(String searchName, int limit) {
+            var results = new ArrayList<ParticipantSuggestionDto>(limit);
+
+            for (int i = this.lowerBound(searchName); i < searchNames.length && results.size() < limit; i++) {
+                if (!searchNames[i].startsWith(searchName)) break;
+                results.add(suggestions[i]);
+            }
+            if (results.size() == limit || searchName.length() < Participant.NAME_GRAM_SIZE) return results;
+
+            var candidates = this.findCandidates(searchName);
+
+            for (int i = 0; i < candidates.length && results.size() < limit; i++) {
+                var name = searchNames[candidates[i]];
+
+                if (!name.startsWith(searchName) && name.contains(searchName)) {
+                    results.add(suggestions[candidates[i]]);
+                }
+            }
+            return results;
+        }
+
+        private int lowerBound(String searchName) {
+            int low = 0;
+            int high = searchNames.length;
+
+            while (low < high) {
+                var middle = (low + high) >>> 1;
+
+                if (searchNames[middle].compareTo(searchName) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int[] findCandidates(String searchName) {
+            var postings = new ArrayList<int[]>();
+
+            for (var gram : Participant.createNameGrams(searchName)) {
+                var positions = positionsByGram.get(gram);
+
+                if (positions == null) return new int[0];
+                postings.add(positions);
+            }
+            postings.sort(Comparator.comparingInt(positions -> positions.length));
+
+            var candidates = postings.get(0);
+
+            for (int i = 1; i < postings.size() && candidates.length > 0; i++) {
+                candidates = this.intersect(candidates, postings.get(i));
+            }
+            return candidates;
+        }
+
+        private int[] intersect(int[] left, int[] right) {
+            var result = new int[Math.min(left.length, right.length)];
+            int size = 0;
+
+            for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+                if (left[i] == right[j]) {
+                    result[size++] = left[i];
+                    i++;
+                    j++;
+                } else if (left[i] < right[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+    }
+
+}
@@ -1,9 +1,10 @@
 package com.bristotartur.cedupscore_api.services;
 
 import com.bristotartur.cedupscore_api.domain.*;
+import com.bristotartur.cedupscore_api.dtos.projections.ParticipantEventState;
+import com.bristotartur.cedupscore_api.enums.CpfValidationResult;
 import com.bristotartur.cedupscore_api.enums.Modality;
 import com.bristotartur.cedupscore_api.enums.ParticipantType;
-import com.bristotartur.cedupscore_api.enums.Patterns;
 import com.bristotartur.cedupscore_api.enums.Status;
 import com.bristotartur.cedupscore_api.exceptions.BadRequestException;
 import com.bristotartur.cedupscore_api.exceptions.ConflictException;
@@ -15,7 +16,7 @@ import java.util.Optional;
 @Component
 public class ParticipantValidationService {
 
-    private static final String INVALID_CPF_MSG = "CPF inválido.";
+    private static final String INVALID_CPF_MSG = "CPF inválido. %s";
     private static final String PARTICIPANT_INACTIVE_MSG = "O participante está inativo.";
     private static final String TEAM_INACTIVE_MSG = "A equipe está inativa.";
     private static final String EDITION_REGISTRATION_NOT_ALLOWED_MSG = "O participante não pode ser inscrito na edição informada.";
@@ -28,8 +29,13 @@ public class ParticipantValidationService {
     private static final String EVENT_MISMATCH_MSG = "O participante '%s' não está inscrito no evento informado.";
     private static final String CANNOT_REMOVE_REGISTRATION = "O participante '%s' não pode ser desinscrito.";
 
-    public void validateCpf(String cpf) throws BadRequestException {
-        if (!Patterns.validateCpf(cpf)) throw new BadRequestException(INVALID_CPF_MSG);
+    public String validateCpf(String cpf) throws BadRequestException {
+        var result = CpfValidationResult.validate(cpf);
+
+        if (result != CpfValidationResult.VALID) {
+            throw new BadRequestException(INVALID_CPF_MSG.formatted(result.value));
+        }
+        return CpfValidationResult.format(cpf);
     }
 
     public void validateParticipantAndTeamActive(Participant participant, Team team) throws UnprocessableEntityException {
@@ -90,6 +96,31 @@ public class ParticipantValidationService {
                 });
     }
 
+    public void validateParticipantStateForEvent(ParticipantEventState participant, Team team, Event event, Integer registeredParticipants) throws ConflictException, UnprocessableEntityException {
+        if (!participant.isActive()) {
+            throw new UnprocessableEntityException(PARTICIPANT_INACTIVE_MSG);
+        }
+        if (!team.getIsActive()) {
+            throw new UnprocessableEntityException(TEAM_INACTIVE_MSG);
+        }
+        if (participant.editionTeamId() == null) {
+            throw new ConflictException(NOT_REGISTERED_IN_EDITION_MSG.formatted(participant.name()));
+        }
+        if (!participant.editionTeamId().equals(team.getId())) {
+            throw new UnprocessableEntityException(TEAM_MISMATCH_MSG.formatted(participant.name()));
+        }
+        if (!event.getStatus().equals(Status.SCHEDULED) ||
+            !(registeredParticipants < event.getMaxParticipantsPerTeam()) ||
+            !Modality.compareCategory(event.getModality(), participant.gender()) ||
+            !ParticipantType.compareTypes(event.getAllowedParticipantType(), participant.type())
+        ) {
+            throw new UnprocessableEntityException(EVENT_REGISTRATION_NOT_ALLOWED_MSG.formatted(participant.name()));
+        }
+        if (participant.eventRegistrationId() != null) {
+            throw new ConflictException(ALREADY_REGISTERED_IN_EVENT_MSG.formatted(participant.name()));
+        }
+    }
+
     public void validateEditionRegistrationToRemove(Participant participant, EditionRegistration registration) throws ConflictException, UnprocessableEntityException {
         participant.getEditionRegistrations()
                 .stream()
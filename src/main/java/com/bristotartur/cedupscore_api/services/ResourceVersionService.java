@@ -0,0 +1,90 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.enums.EventType;
+import com.bristotartur.cedupscore_api.events.*;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ResourceVersionService {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong editionsVersion = new AtomicLong();
+    private final AtomicLong teamsVersion = new AtomicLong();
+    private final AtomicLong deletedEventsVersion = new AtomicLong();
+    private final Map<Long, AtomicLong> versionsByEvent = new ConcurrentHashMap<>();
+
+    public String editionsETag() {
+        return this.createETag("editions", editionsVersion.get(), teamsVersion.get());
+    }
+
+    public String teamsETag() {
+        return this.createETag("teams", teamsVersion.get());
+    }
+
+    public String eventETag(Long eventId, EventType type) {
+        var resource = (type != null) ? "event-%d-%s".formatted(eventId, type) : "event-" + eventId;
+        var version = versionsByEvent.get(eventId);
+
+        return this.createETag(resource, (version != null) ? version.get() : 0L, deletedEventsVersion.get(), teamsVersion.get());
+    }
+
+    @TransactionalEventListener
+    public void onEditionStatusChanged(EditionStatusChangedEvent event) {
+        editionsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onEditionDeleted(EditionDeletedEvent event) {
+        editionsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onTeamScoresUpdated(TeamScoresUpdatedEvent event) {
+        editionsVersion.incrementAndGet();
+        this.bumpEventVersion(event.eventId());
+    }
+
+    @TransactionalEventListener
+    public void onTeamUpdated(TeamUpdatedEvent event) {
+        teamsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onEventStatusChanged(EventStatusChangedEvent event) {
+        this.bumpEventVersion(event.eventId());
+    }
+
+    @TransactionalEventListener
+    public void onEventUpdated(EventUpdatedEvent event) {
+        this.bumpEventVersion(event.eventId());
+    }
+
+    // A deleted event's entry is dropped, and the shared deletion counter moves every event tag forward so that a tag
+    // issued before the deletion can no longer match the version-zero tag of the now missing event.
+    @TransactionalEventListener
+    public void onEventDeleted(EventDeletedEvent event) {
+        versionsByEvent.remove(event.eventId());
+        deletedEventsVersion.incrementAndGet();
+    }
+
+    // Only writes create entries; reads of ids that were never changed fall back to version zero, so probing unknown
+    // ids cannot grow the map.
+    private void bumpEventVersion(Long eventId) {
+        versionsByEvent.computeIfAbsent(eventId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String createETag(String resource, long... versions) {
+        var tag = new StringBuilder("\"").append(resource).append('-').append(bootId);
+
+        for (var version : versions) {
+            tag.append('-').append(version);
+        }
+        return tag.append('"').toString();
+    }
+
+}
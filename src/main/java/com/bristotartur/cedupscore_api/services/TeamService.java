@@ -4,6 +4,7 @@ import com.bristotartur.cedupscore_api.domain.Team;
 import com.bristotartur.cedupscore_api.dtos.request.TeamRequestDto;
 import com.bristotartur.cedupscore_api.dtos.response.TeamResponseDto;
 import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.events.TeamUpdatedEvent;
 import com.bristotartur.cedupscore_api.exceptions.ConflictException;
 import com.bristotartur.cedupscore_api.exceptions.NotFoundException;
 import com.bristotartur.cedupscore_api.exceptions.UnprocessableEntityException;
@@ -11,6 +12,7 @@ import com.bristotartur.cedupscore_api.mappers.TeamMapper;
 import com.bristotartur.cedupscore_api.repositories.TeamRepository;
 import com.bristotartur.cedupscore_api.repositories.TeamScoreRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,11 +27,20 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final TeamMapper teamMapper;
     private final TeamScoreRepository teamScoreRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Team> findAllTeams() {
         return teamRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<TeamResponseDto> findAllTeamResponseDtos() {
+        return teamRepository.findAll()
+                .stream()
+                .map(teamMapper::toTeamResponseDto)
+                .toList();
+    }
+
     public List<Team> findAllTeamsById(List<Long> ids) {
         return teamRepository.findAllById(ids);
     }
@@ -64,7 +75,10 @@ public class TeamService {
         teamRepository.findByLogoUrl(dto.logoUrl()).ifPresent(team -> {
             throw new ConflictException("A logo '%s' já está em uso.".formatted(team.getLogoUrl()));
         });
-        return teamRepository.save(teamMapper.toNewTeam(dto));
+        var team = teamRepository.save(teamMapper.toNewTeam(dto));
+        eventPublisher.publishEvent(new TeamUpdatedEvent(team.getId()));
+
+        return team;
     }
 
     public void deleteTeam(Long id) {
@@ -74,6 +88,7 @@ public class TeamService {
             throw new UnprocessableEntityException("A equipe não pode ser removida.");
         }
         teamRepository.delete(team);
+        eventPublisher.publishEvent(new TeamUpdatedEvent(id));
     }
 
     public Team replaceTeam(Long id, TeamRequestDto dto) {
@@ -89,6 +104,7 @@ public class TeamService {
                 throw new ConflictException("A logo '%s' já está em uso.".formatted(t.getLogoUrl()));
             });
         }
+        eventPublisher.publishEvent(new TeamUpdatedEvent(id));
         return teamRepository.save(teamMapper.toExistingTeam(id, dto, team.getIsActive()));
     }
 
@@ -108,6 +124,8 @@ public class TeamService {
                     });
         }
         team.setIsActive(isActive);
+        eventPublisher.publishEvent(new TeamUpdatedEvent(id));
+
         return teamRepository.save(team);
     }
 
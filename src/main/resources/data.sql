@@ -1,485 +1,497 @@
 -- USER
 INSERT INTO
-    tb_user (name, email, password, role)
+    tb_user (id, name, email, password, role)
 VALUES
-    ('root', 'root@gmail.com', '$2a$10$9WRGYEXt1RZW4fOuIHSGu.iTs17zvZGbiDOkWeC3nNsTUaH0E.Ece', 'SUPER_ADMIN');
+    (1, 'root', 'root@gmail.com', '$2a$10$9WRGYEXt1RZW4fOuIHSGu.iTs17zvZGbiDOkWeC3nNsTUaH0E.Ece', 'SUPER_ADMIN');
 
 -- EDITION
 
 INSERT INTO
-    tb_edition (status, start_date, closing_date)
+    tb_edition (id, status, start_date, closing_date)
 VALUES
-    ('ENDED', '2023-04-01', '2023-05-05'),
-    ('SCHEDULED', '2024-04-01', '2024-08-09');
+    (1, 'ENDED', '2023-04-01', '2023-05-05'),
+    (2, 'SCHEDULED', '2024-04-01', '2024-08-09');
 
 -- TEAMS
 
 INSERT INTO
-    tb_team (name, logo_url, is_active)
+    tb_team (id, name, logo_url, is_active)
 VALUES
-    ('Atômica', 'ATOMICA', true),
-    ('Mestres de Obras', 'MESTRES', true),
-    ('Papa-Léguas', 'PAPA', true),
-    ('Twister', 'TWISTER', true),
-    ('Unicontti', 'UNICONTTI', true);
+    (1, 'Atômica', 'ATOMICA', true),
+    (2, 'Mestres de Obras', 'MESTRES', true),
+    (3, 'Papa-Léguas', 'PAPA', true),
+    (4, 'Twister', 'TWISTER', true),
+    (5, 'Unicontti', 'UNICONTTI', true);
 
 -- TEAM SCORES
 
 INSERT INTO
-    tb_team_score (score, team_id, tasks_won, sports_won, edition_id)
+    tb_team_score (id, score, team_id, tasks_won, sports_won, edition_id)
 VALUES
-    (2300, 1, 5, 1, 1),
-    (2300, 2, 5, 0, 1),
-    (2200, 3, 5, 4, 1),
-    (2250, 4, 5, 2, 1),
-    (2100, 5, 5, 0, 1),
-
-    (2430, 1, 5, 5, 2),
-    (2410, 2, 5, 5, 2),
-    (2120, 3, 5, 5, 2),
-    (1500, 4, 5, 5, 2),
-    (2000, 5, 5, 5, 2);
+    (1, 2300, 1, 5, 1, 1),
+    (2, 2300, 2, 5, 0, 1),
+    (3, 2200, 3, 5, 4, 1),
+    (4, 2250, 4, 5, 2, 1),
+    (5, 2100, 5, 5, 0, 1),
+
+    (6, 2430, 1, 5, 5, 2),
+    (7, 2410, 2, 5, 5, 2),
+    (8, 2120, 3, 5, 5, 2),
+    (9, 1500, 4, 5, 5, 2),
+    (10, 2000, 5, 5, 5, 2);
 
 -- PARTICIPANT
 
 INSERT INTO
-    tb_participant (name, cpf, gender, type, is_active)
+    tb_participant (id, name, cpf, gender, type, is_active)
 VALUES
-    ('CARLOS SILVA', '123.456.789-00', 'MALE', 'PARENT', true),
-    ('FERNANDA COSTA', '234.567.890-12', 'FEMALE', 'TEACHER', true),
-    ('JULIANA MENDES', '345.678.901-23', 'FEMALE', 'TEACHER', true),
-    ('EDUARDO SANTOS', '456.789.012-34', 'MALE', 'STUDENT', true),
-    ('LUCAS OLIVEIRA', '567.890.123-45', 'MALE', 'STUDENT', true),
-    ('ALINE SOUZA', '678.901.234-56', 'FEMALE', 'STUDENT', true),
-    ('RICARDO ALMEIDA', '789.012.345-67', 'MALE', 'STUDENT', true),
-    ('PATRÍCIA LIMA', '890.123.456-78', 'FEMALE', 'STUDENT', true),
-    ('FELIPE COSTA', '901.234.567-89', 'MALE', 'STUDENT', true),
-    ('MARIANA ROCHA', '012.345.678-90', 'FEMALE', 'STUDENT', true),
-    ('JORGE MARTINS', '123.654.789-00', 'MALE', 'PARENT', true),
-    ('SIMONE ALMEIDA', '234.765.890-12', 'FEMALE', 'TEACHER', true),
-    ('ANA PAULA GOMES', '345.876.901-23', 'FEMALE', 'TEACHER', true),
-    ('RAFAEL SANTOS', '456.987.012-34', 'MALE', 'STUDENT', true),
-    ('ISABELA FERREIRA', '567.098.123-45', 'FEMALE', 'STUDENT', true),
-    ('GABRIEL LIMA', '678.109.234-56', 'MALE', 'STUDENT', true),
-    ('TATIANE SILVA', '789.210.345-67', 'FEMALE', 'STUDENT_PARENT', true),
-    ('LUCAS ROCHA', '890.321.456-78', 'MALE', 'STUDENT', true),
-    ('BRUNA COSTA', '901.432.567-89', 'FEMALE', 'STUDENT', true),
-    ('FELIPE ALMEIDA', '012.543.678-90', 'MALE', 'STUDENT', true),
-    ('MARCOS PEREIRA', '123.765.890-00', 'MALE', 'PARENT', true),
-    ('MARIA CLARA', '234.876.901-12', 'FEMALE', 'TEACHER_PARENT', true),
-    ('JÉSSICA RONCONI', '345.987.012-23', 'FEMALE', 'TEACHER', true),
-    ('JOÃO PEDRO', '456.098.123-34', 'MALE', 'STUDENT', true),
-    ('LAURA SOUZA', '567.109.234-45', 'FEMALE', 'STUDENT', true),
-    ('DANIEL LIMA', '678.210.345-56', 'MALE', 'STUDENT', true),
-    ('NATÁLIA COSTA', '789.321.456-67', 'FEMALE', 'STUDENT', true),
-    ('ANDRÉ SILVA', '890.432.567-78', 'MALE', 'STUDENT', true),
-    ('CAMILA ROCHA', '901.543.678-89', 'FEMALE', 'STUDENT', true),
-    ('RODRIGO FERREIRA', '012.654.789-90', 'MALE', 'STUDENT', true),
-    ('RICARDO GOMES', '123.876.901-00', 'MALE', 'PARENT', true),
-    ('CLÁUDIA FERREIRA', '234.987.012-12', 'FEMALE', 'TEACHER', true),
-    ('BRUNA LIMA', '345.098.123-23', 'FEMALE', 'TEACHER', true),
-    ('FELIPE MOTTA', '456.109.234-34', 'MALE', 'STUDENT', true),
-    ('AMANDA ROCHA', '567.210.345-45', 'FEMALE', 'STUDENT', true),
-    ('PEDRO SILVA', '678.321.456-56', 'MALE', 'STUDENT', true),
-    ('GISELE ALMEIDA', '789.432.567-67', 'FEMALE', 'STUDENT', false),
-    ('GABRIEL SOUZA', '890.543.678-78', 'MALE', 'STUDENT', true),
-    ('MARINA COSTA', '901.654.789-89', 'FEMALE', 'STUDENT', true),
-    ('ANDERSON LIMA', '012.765.890-90', 'MALE', 'STUDENT', true),
-    ('FÁBIO SANTOS', '123.987.012-00', 'MALE', 'PARENT', true),
-    ('PATRÍCIA ROCHA', '234.098.123-12', 'FEMALE', 'TEACHER', true),
-    ('MARIANA OLIVEIRA', '345.109.234-23', 'FEMALE', 'TEACHER', true),
-    ('THIAGO ALMEIDA', '456.210.345-34', 'MALE', 'STUDENT', true),
-    ('RAÍSSA LIMA', '567.321.456-45', 'FEMALE', 'STUDENT', true),
-    ('LUCAS SOUZA', '678.432.567-56', 'MALE', 'STUDENT', true),
-    ('BIANCA COSTA', '789.543.678-67', 'FEMALE', 'STUDENT', false),
-    ('RODRIGO PEREIRA', '890.654.789-78', 'MALE', 'STUDENT', true),
-    ('JULIANA MARTINS', '901.765.890-89', 'FEMALE', 'TEACHER', true),
-    ('EDUARDO FERREIRA', '012.876.901-90', 'MALE', 'STUDENT', true),
-
-    ('ARTUR DA ROSA BRISTOT', '079.630.479-37', 'MALE', 'STUDENT', true),
-    ('GABRIELA FERNANDES SANTANA', '010.640.489-52', 'FEMALE', 'STUDENT', true),
-    ('FELIPE ROSSETTO DA SILVA', '023.976.989-90', 'MALE', 'STUDENT', true),
-    ('JOÃO VITOR BIANCHINI DOS PASSOS', '456.218.349-34', 'MALE', 'STUDENT', true),
-    ('EDUARDO DOS SANTOS GOULART', '901.666.789-69', 'MALE', 'STUDENT', true);
+    (1, 'CARLOS SILVA', '123.456.789-09', 'MALE', 'PARENT', true),
+    (2, 'FERNANDA COSTA', '234.567.890-92', 'FEMALE', 'TEACHER', true),
+    (3, 'JULIANA MENDES', '345.678.901-75', 'FEMALE', 'TEACHER', true),
+    (4, 'EDUARDO SANTOS', '456.789.012-49', 'MALE', 'STUDENT', true),
+    (5, 'LUCAS OLIVEIRA', '567.890.123-03', 'MALE', 'STUDENT', true),
+    (6, 'ALINE SOUZA', '678.901.234-69', 'FEMALE', 'STUDENT', true),
+    (7, 'RICARDO ALMEIDA', '789.012.345-05', 'MALE', 'STUDENT', true),
+    (8, 'PATRÍCIA LIMA', '890.123.456-42', 'FEMALE', 'STUDENT', true),
+    (9, 'FELIPE COSTA', '901.234.567-70', 'MALE', 'STUDENT', true),
+    (10, 'MARIANA ROCHA', '012.345.678-90', 'FEMALE', 'STUDENT', true),
+    (11, 'JORGE MARTINS', '123.654.789-64', 'MALE', 'PARENT', true),
+    (12, 'SIMONE ALMEIDA', '234.765.890-56', 'FEMALE', 'TEACHER', true),
+    (13, 'ANA PAULA GOMES', '345.876.901-39', 'FEMALE', 'TEACHER', true),
+    (14, 'RAFAEL SANTOS', '456.987.012-02', 'MALE', 'STUDENT', true),
+    (15, 'ISABELA FERREIRA', '567.098.123-59', 'FEMALE', 'STUDENT', true),
+    (16, 'GABRIEL LIMA', '678.109.234-04', 'MALE', 'STUDENT', true),
+    (17, 'TATIANE SILVA', '789.210.345-79', 'FEMALE', 'STUDENT_PARENT', true),
+    (18, 'LUCAS ROCHA', '890.321.456-06', 'MALE', 'STUDENT', true),
+    (19, 'BRUNA COSTA', '901.432.567-34', 'FEMALE', 'STUDENT', true),
+    (20, 'FELIPE ALMEIDA', '012.543.678-53', 'MALE', 'STUDENT', true),
+    (21, 'MARCOS PEREIRA', '123.765.890-02', 'MALE', 'PARENT', true),
+    (22, 'MARIA CLARA', '234.876.901-87', 'FEMALE', 'TEACHER_PARENT', true),
+    (23, 'JÉSSICA RONCONI', '345.987.012-50', 'FEMALE', 'TEACHER', true),
+    (24, 'JOÃO PEDRO', '456.098.123-05', 'MALE', 'STUDENT', true),
+    (25, 'LAURA SOUZA', '567.109.234-52', 'FEMALE', 'STUDENT', true),
+    (26, 'DANIEL LIMA', '678.210.345-17', 'MALE', 'STUDENT', true),
+    (27, 'NATÁLIA COSTA', '789.321.456-28', 'FEMALE', 'STUDENT', true),
+    (28, 'ANDRÉ SILVA', '890.432.567-65', 'MALE', 'STUDENT', true),
+    (29, 'CAMILA ROCHA', '901.543.678-93', 'FEMALE', 'STUDENT', true),
+    (30, 'RODRIGO FERREIRA', '012.654.789-02', 'MALE', 'STUDENT', true),
+    (31, 'RICARDO GOMES', '123.876.901-25', 'MALE', 'PARENT', true),
+    (32, 'CLÁUDIA FERREIRA', '234.987.012-07', 'FEMALE', 'TEACHER', true),
+    (33, 'BRUNA LIMA', '345.098.123-45', 'FEMALE', 'TEACHER', true),
+    (34, 'FELIPE MOTTA', '456.109.234-09', 'MALE', 'STUDENT', true),
+    (35, 'AMANDA ROCHA', '567.210.345-65', 'FEMALE', 'STUDENT', true),
+    (36, 'PEDRO SILVA', '678.321.456-76', 'MALE', 'STUDENT', true),
+    (37, 'GISELE ALMEIDA', '789.432.567-87', 'FEMALE', 'STUDENT', false),
+    (38, 'GABRIEL SOUZA', '890.543.678-14', 'MALE', 'STUDENT', true),
+    (39, 'MARINA COSTA', '901.654.789-42', 'FEMALE', 'STUDENT', true),
+    (40, 'ANDERSON LIMA', '012.765.890-42', 'MALE', 'STUDENT', true),
+    (41, 'FÁBIO SANTOS', '123.987.012-47', 'MALE', 'PARENT', true),
+    (42, 'PATRÍCIA ROCHA', '234.098.123-93', 'FEMALE', 'TEACHER', true),
+    (43, 'MARIANA OLIVEIRA', '345.109.234-49', 'FEMALE', 'TEACHER', true),
+    (44, 'THIAGO ALMEIDA', '456.210.345-03', 'MALE', 'STUDENT', true),
+    (45, 'RAÍSSA LIMA', '567.321.456-14', 'FEMALE', 'STUDENT', true),
+    (46, 'LUCAS SOUZA', '678.432.567-25', 'MALE', 'STUDENT', true),
+    (47, 'BIANCA COSTA', '789.543.678-36', 'FEMALE', 'STUDENT', false),
+    (48, 'RODRIGO PEREIRA', '890.654.789-73', 'MALE', 'STUDENT', true),
+    (49, 'JULIANA MARTINS', '901.765.890-82', 'FEMALE', 'TEACHER', true),
+    (50, 'EDUARDO FERREIRA', '012.876.901-73', 'MALE', 'STUDENT', true),
+
+    (51, 'ARTUR DA ROSA BRISTOT', '079.630.479-37', 'MALE', 'STUDENT', true),
+    (52, 'GABRIELA FERNANDES SANTANA', '010.640.489-00', 'FEMALE', 'STUDENT', true),
+    (53, 'FELIPE ROSSETTO DA SILVA', '023.976.989-94', 'MALE', 'STUDENT', true),
+    (54, 'JOÃO VITOR BIANCHINI DOS PASSOS', '456.218.349-76', 'MALE', 'STUDENT', true),
+    (55, 'EDUARDO DOS SANTOS GOULART', '901.666.789-02', 'MALE', 'STUDENT', true);
 
 -- EDITION REGISTRATIONS
 
 INSERT INTO
-    tb_edition_registration (participant_id, team_id, edition_id, created_at)
+    tb_edition_registration (id, participant_id, team_id, edition_id, created_at)
 VALUES
 -- Atômica
-    (1, 1, 1, '2023-04-08T13:40:03.252379'),
-    (2, 1, 1, '2023-04-08T13:40:03.252379'),
-    (3, 1, 1, '2023-04-08T13:40:03.252379'),
-    (4, 1, 1, '2023-04-08T13:40:03.252379'),
-    (5, 1, 1, '2023-04-08T13:40:03.252379'),
-    (6, 1, 1, '2023-04-08T13:40:03.252379'),
-    (7, 1, 1, '2023-04-08T13:40:03.252379'),
-    (8, 1, 1, '2023-04-08T13:40:03.252379'),
-    (9, 1, 1, '2023-04-08T13:40:03.252379'),
-    (10, 1, 1, '2023-04-08T13:40:03.252379'),
+    (1, 1, 1, 1, '2023-04-08T13:40:03.252379'),
+    (2, 2, 1, 1, '2023-04-08T13:40:03.252379'),
+    (3, 3, 1, 1, '2023-04-08T13:40:03.252379'),
+    (4, 4, 1, 1, '2023-04-08T13:40:03.252379'),
+    (5, 5, 1, 1, '2023-04-08T13:40:03.252379'),
+    (6, 6, 1, 1, '2023-04-08T13:40:03.252379'),
+    (7, 7, 1, 1, '2023-04-08T13:40:03.252379'),
+    (8, 8, 1, 1, '2023-04-08T13:40:03.252379'),
+    (9, 9, 1, 1, '2023-04-08T13:40:03.252379'),
+    (10, 10, 1, 1, '2023-04-08T13:40:03.252379'),
 
 -- Mestres de Obras
-    (11, 2, 1, '2023-04-08T13:40:03.252379'),
-    (12, 2, 1, '2023-04-08T13:40:03.252379'),
-    (13, 2, 1, '2023-04-08T13:40:03.252379'),
-    (14, 2, 1, '2023-04-08T13:40:03.252379'),
-    (15, 2, 1, '2023-04-08T13:40:03.252379'),
-    (16, 2, 1, '2023-04-08T13:40:03.252379'),
-    (17, 2, 1, '2023-04-08T13:40:03.252379'),
-    (18, 2, 1, '2023-04-08T13:40:03.252379'),
-    (19, 2, 1, '2023-04-08T13:40:03.252379'),
-    (20, 2, 1, '2023-04-08T13:40:03.252379'),
+    (11, 11, 2, 1, '2023-04-08T13:40:03.252379'),
+    (12, 12, 2, 1, '2023-04-08T13:40:03.252379'),
+    (13, 13, 2, 1, '2023-04-08T13:40:03.252379'),
+    (14, 14, 2, 1, '2023-04-08T13:40:03.252379'),
+    (15, 15, 2, 1, '2023-04-08T13:40:03.252379'),
+    (16, 16, 2, 1, '2023-04-08T13:40:03.252379'),
+    (17, 17, 2, 1, '2023-04-08T13:40:03.252379'),
+    (18, 18, 2, 1, '2023-04-08T13:40:03.252379'),
+    (19, 19, 2, 1, '2023-04-08T13:40:03.252379'),
+    (20, 20, 2, 1, '2023-04-08T13:40:03.252379'),
 
 -- Papa-Léguas
-    (21, 3, 1, '2023-04-08T13:40:03.252379'),
-    (22, 3, 1, '2023-04-08T13:40:03.252379'),
-    (23, 3, 1, '2023-04-08T13:40:03.252379'),
-    (24, 3, 1, '2023-04-08T13:40:03.252379'),
-    (25, 3, 1, '2023-04-08T13:40:03.252379'),
-    (26, 3, 1, '2023-04-08T13:40:03.252379'),
-    (27, 3, 1, '2023-04-08T13:40:03.252379'),
-    (28, 3, 1, '2023-04-08T13:40:03.252379'),
-    (29, 3, 1, '2023-04-08T13:40:03.252379'),
-    (30, 3, 1, '2023-04-08T13:40:03.252379'),
-
-    (51, 3, 1, '2023-04-08T13:40:03.252379'),
-    (52, 3, 1, '2023-04-08T13:40:03.252379'),
-    (53, 3, 1, '2023-04-08T13:40:03.252379'),
-    (54, 3, 1, '2023-04-08T13:40:03.252379'),
-    (55, 3, 1, '2023-04-08T13:40:03.252379'),
+    (21, 21, 3, 1, '2023-04-08T13:40:03.252379'),
+    (22, 22, 3, 1, '2023-04-08T13:40:03.252379'),
+    (23, 23, 3, 1, '2023-04-08T13:40:03.252379'),
+    (24, 24, 3, 1, '2023-04-08T13:40:03.252379'),
+    (25, 25, 3, 1, '2023-04-08T13:40:03.252379'),
+    (26, 26, 3, 1, '2023-04-08T13:40:03.252379'),
+    (27, 27, 3, 1, '2023-04-08T13:40:03.252379'),
+    (28, 28, 3, 1, '2023-04-08T13:40:03.252379'),
+    (29, 29, 3, 1, '2023-04-08T13:40:03.252379'),
+    (30, 30, 3, 1, '2023-04-08T13:40:03.252379'),
+
+    (31, 51, 3, 1, '2023-04-08T13:40:03.252379'),
+    (32, 52, 3, 1, '2023-04-08T13:40:03.252379'),
+    (33, 53, 3, 1, '2023-04-08T13:40:03.252379'),
+    (34, 54, 3, 1, '2023-04-08T13:40:03.252379'),
+    (35, 55, 3, 1, '2023-04-08T13:40:03.252379'),
 
 -- Twister
-    (31, 4, 1, '2023-04-08T13:40:03.252379'),
-    (32, 4, 1, '2023-04-08T13:40:03.252379'),
-    (33, 4, 1, '2023-04-08T13:40:03.252379'),
-    (34, 4, 1, '2023-04-08T13:40:03.252379'),
-    (35, 4, 1, '2023-04-08T13:40:03.252379'),
-    (36, 4, 1, '2023-04-08T13:40:03.252379'),
-    (37, 4, 1, '2023-04-08T13:40:03.252379'),
-    (38, 4, 1, '2023-04-08T13:40:03.252379'),
-    (39, 4, 1, '2023-04-08T13:40:03.252379'),
-    (40, 4, 1, '2023-04-08T13:40:03.252379'),
+    (36, 31, 4, 1, '2023-04-08T13:40:03.252379'),
+    (37, 32, 4, 1, '2023-04-08T13:40:03.252379'),
+    (38, 33, 4, 1, '2023-04-08T13:40:03.252379'),
+    (39, 34, 4, 1, '2023-04-08T13:40:03.252379'),
+    (40, 35, 4, 1, '2023-04-08T13:40:03.252379'),
+    (41, 36, 4, 1, '2023-04-08T13:40:03.252379'),
+    (42, 37, 4, 1, '2023-04-08T13:40:03.252379'),
+    (43, 38, 4, 1, '2023-04-08T13:40:03.252379'),
+    (44, 39, 4, 1, '2023-04-08T13:40:03.252379'),
+    (45, 40, 4, 1, '2023-04-08T13:40:03.252379'),
 
 -- Unicontti
-    (41, 5, 1, '2023-04-08T13:40:03.252379'),
-    (42, 5, 1, '2023-04-08T13:40:03.252379'),
-    (43, 5, 1, '2023-04-08T13:40:03.252379'),
-    (44, 5, 1, '2023-04-08T13:40:03.252379'),
-    (45, 5, 1, '2023-04-08T13:40:03.252379'),
-    (46, 5, 1, '2023-04-08T13:40:03.252379'),
-    (47, 5, 1, '2023-04-08T13:40:03.252379'),
-    (48, 5, 1, '2023-04-08T13:40:03.252379'),
-    (49, 5, 1, '2023-04-08T13:40:03.252379'),
-    (50, 5, 1, '2023-04-08T13:40:03.252379');
+    (46, 41, 5, 1, '2023-04-08T13:40:03.252379'),
+    (47, 42, 5, 1, '2023-04-08T13:40:03.252379'),
+    (48, 43, 5, 1, '2023-04-08T13:40:03.252379'),
+    (49, 44, 5, 1, '2023-04-08T13:40:03.252379'),
+    (50, 45, 5, 1, '2023-04-08T13:40:03.252379'),
+    (51, 46, 5, 1, '2023-04-08T13:40:03.252379'),
+    (52, 47, 5, 1, '2023-04-08T13:40:03.252379'),
+    (53, 48, 5, 1, '2023-04-08T13:40:03.252379'),
+    (54, 49, 5, 1, '2023-04-08T13:40:03.252379'),
+    (55, 50, 5, 1, '2023-04-08T13:40:03.252379');
 
 -- Inscrições da segunda edição
 
 INSERT INTO
-    tb_edition_registration (participant_id, team_id, edition_id, created_at)
+    tb_edition_registration (id, participant_id, team_id, edition_id, created_at)
 VALUES
-    (1, 1, 2, NOW()),
-    (2, 1, 2, NOW()),
-    (3, 1, 2, NOW()),
-    (4, 1, 2, NOW()),
-    (5, 1, 2, NOW()),
-    (6, 1, 2, NOW()),
-    (7, 1, 2, NOW()),
-    (8, 1, 2, NOW()),
-    (9, 1, 2, NOW()),
-    (20, 1, 2, NOW()),
-
-    (11, 2, 2, NOW()),
-    (12, 2, 2, NOW()),
-    (13, 2, 2, NOW()),
-    (14, 2, 2, NOW()),
-    (15, 2, 2, NOW()),
-    (16, 2, 2, NOW()),
-    (17, 2, 2, NOW()),
-    (18, 2, 2, NOW()),
-    (19, 2, 2, NOW()),
-    (10, 2, 2, NOW()),
-
-    (21, 3, 2, NOW()),
-    (22, 3, 2, NOW()),
-    (23, 3, 2, NOW()),
-    (24, 3, 2, NOW()),
-    (25, 3, 2, NOW()),
-    (26, 3, 2, NOW()),
-    (27, 3, 2, NOW()),
-    (28, 3, 2, NOW()),
-    (29, 3, 2, NOW()),
-    (30, 3, 2, NOW()),
-
-    (31, 4, 2, NOW()),
-    (32, 4, 2, NOW()),
-    (33, 4, 2, NOW()),
-    (34, 4, 2, NOW()),
-    (35, 4, 2, NOW()),
-    (36, 4, 2, NOW()),
-    (37, 4, 2, NOW()),
-    (38, 4, 2, NOW()),
-    (39, 4, 2, NOW()),
-    (40, 4, 2, NOW()),
-
-    (41, 5, 2, NOW()),
-    (42, 5, 2, NOW()),
-    (43, 5, 2, NOW()),
-    (44, 5, 2, NOW()),
-    (45, 5, 2, NOW()),
-    (46, 5, 2, NOW()),
-    (47, 5, 2, NOW()),
-    (48, 5, 2, NOW()),
-    (49, 5, 2, NOW()),
-    (50, 5, 2, NOW()),
-
-    (51, 3, 2, NOW()),
-    (52, 3, 2, NOW()),
-    (53, 3, 2, NOW()),
-    (54, 3, 2, NOW()),
-    (55, 3, 2, NOW());
+    (56, 1, 1, 2, NOW()),
+    (57, 2, 1, 2, NOW()),
+    (58, 3, 1, 2, NOW()),
+    (59, 4, 1, 2, NOW()),
+    (60, 5, 1, 2, NOW()),
+    (61, 6, 1, 2, NOW()),
+    (62, 7, 1, 2, NOW()),
+    (63, 8, 1, 2, NOW()),
+    (64, 9, 1, 2, NOW()),
+    (65, 20, 1, 2, NOW()),
+
+    (66, 11, 2, 2, NOW()),
+    (67, 12, 2, 2, NOW()),
+    (68, 13, 2, 2, NOW()),
+    (69, 14, 2, 2, NOW()),
+    (70, 15, 2, 2, NOW()),
+    (71, 16, 2, 2, NOW()),
+    (72, 17, 2, 2, NOW()),
+    (73, 18, 2, 2, NOW()),
+    (74, 19, 2, 2, NOW()),
+    (75, 10, 2, 2, NOW()),
+
+    (76, 21, 3, 2, NOW()),
+    (77, 22, 3, 2, NOW()),
+    (78, 23, 3, 2, NOW()),
+    (79, 24, 3, 2, NOW()),
+    (80, 25, 3, 2, NOW()),
+    (81, 26, 3, 2, NOW()),
+    (82, 27, 3, 2, NOW()),
+    (83, 28, 3, 2, NOW()),
+    (84, 29, 3, 2, NOW()),
+    (85, 30, 3, 2, NOW()),
+
+    (86, 31, 4, 2, NOW()),
+    (87, 32, 4, 2, NOW()),
+    (88, 33, 4, 2, NOW()),
+    (89, 34, 4, 2, NOW()),
+    (90, 35, 4, 2, NOW()),
+    (91, 36, 4, 2, NOW()),
+    (92, 37, 4, 2, NOW()),
+    (93, 38, 4, 2, NOW()),
+    (94, 39, 4, 2, NOW()),
+    (95, 40, 4, 2, NOW()),
+
+    (96, 41, 5, 2, NOW()),
+    (97, 42, 5, 2, NOW()),
+    (98, 43, 5, 2, NOW()),
+    (99, 44, 5, 2, NOW()),
+    (100, 45, 5, 2, NOW()),
+    (101, 46, 5, 2, NOW()),
+    (102, 47, 5, 2, NOW()),
+    (103, 48, 5, 2, NOW()),
+    (104, 49, 5, 2, NOW()),
+    (105, 50, 5, 2, NOW()),
+
+    (106, 51, 3, 2, NOW()),
+    (107, 52, 3, 2, NOW()),
+    (108, 53, 3, 2, NOW()),
+    (109, 54, 3, 2, NOW()),
+    (110, 55, 3, 2, NOW());
     
 INSERT INTO 
-	tb_event (name, type, status, extra_type, allowed_participant_type, modality, min_participants_per_team, max_participants_per_team, description, started_at, ended_at, edition_id, responsible_user_id)
+	tb_event (id, name, type, status, extra_type, allowed_participant_type, modality, min_participants_per_team, max_participants_per_team, description, started_at, ended_at, edition_id, responsible_user_id)
 VALUES 
-    ('Tentilhões de Darwin', 'TASK', 'ENDED', 'NORMAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2024-09-21T12:49:17.039397708', '2024-09-22T13:10:17.039436623', 2, 1),
-    ('Geometria Humana', 'TASK', 'ENDED', 'CULTURAL', 'STUDENT', 'MIXED',  20, 10000, 'Sed ut perspiciatis unde omnis iste natus error sit voluptatem accusantium doloremque laudantium, totam rem aperiam, eaque ipsa quae ab illo inventore veritatis et quasi architecto beatae vitae dicta sunt explicabo. Nemo enim ipsam voluptatem quia voluptas sit aspernatur aut odit aut fugit, sed quia consequuntur magni dolores eos qui ratione voluptatem sequi nesciunt. Neque porro quisquam est, qui dolorem ipsum quia dolor sit amet, consectetur, adipisci velit, sed quia non numquam eius modi tempora incidunt ut labore et dolore magnam aliquam quaerat voluptatem. Ut enim ad minima veniam, quis nostrum exercitationem ullam corporis suscipit laboriosam, nisi ut aliquid ex ea commodi consequatur? Quis autem vel eum iure reprehenderit qui in ea voluptate velit esse quam nihil molestiae consequatur, vel illum qui dolorem eum fugiat quo voluptas nulla pariatur?', '2024-08-21T20:10:00.039397708', '2024-08-21T21:05:17.039436623', 2, 1),
-    ('Cores olímpicas', 'TASK', 'ENDED', 'NORMAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2024-08-21T12:49:17.039397708', '2024-08-22T13:10:17.039436623', 2, 1),
-    ('Desfile de Abertura', 'TASK', 'ENDED', 'NORMAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2024-08-07T12:49:17.039397708', '2024-10-22T13:10:17.039436623', 2, 1),
-    ('Astros do Rock', 'TASK', 'ENDED', 'CULTURAL', 'TEACHER_STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2023-05-05T12:49:17.039397708', '2023-05-05T13:10:17.039436623', 1, 1),
-    ('Se Ela Canta Eu Me Encanto', 'TASK', 'ENDED', 'CULTURAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2023-05-05T12:49:17.039397708', '2023-05-05T13:10:17.039436623', 1, 1);
+    (1, 'Tentilhões de Darwin', 'TASK', 'ENDED', 'NORMAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2024-09-21T12:49:17.039397708', '2024-09-22T13:10:17.039436623', 2, 1),
+    (2, 'Geometria Humana', 'TASK', 'ENDED', 'CULTURAL', 'STUDENT', 'MIXED',  20, 10000, 'Sed ut perspiciatis unde omnis iste natus error sit voluptatem accusantium doloremque laudantium, totam rem aperiam, eaque ipsa quae ab illo inventore veritatis et quasi architecto beatae vitae dicta sunt explicabo. Nemo enim ipsam voluptatem quia voluptas sit aspernatur aut odit aut fugit, sed quia consequuntur magni dolores eos qui ratione voluptatem sequi nesciunt. Neque porro quisquam est, qui dolorem ipsum quia dolor sit amet, consectetur, adipisci velit, sed quia non numquam eius modi tempora incidunt ut labore et dolore magnam aliquam quaerat voluptatem. Ut enim ad minima veniam, quis nostrum exercitationem ullam corporis suscipit laboriosam, nisi ut aliquid ex ea commodi consequatur? Quis autem vel eum iure reprehenderit qui in ea voluptate velit esse quam nihil molestiae consequatur, vel illum qui dolorem eum fugiat quo voluptas nulla pariatur?', '2024-08-21T20:10:00.039397708', '2024-08-21T21:05:17.039436623', 2, 1),
+    (3, 'Cores olímpicas', 'TASK', 'ENDED', 'NORMAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2024-08-21T12:49:17.039397708', '2024-08-22T13:10:17.039436623', 2, 1),
+    (4, 'Desfile de Abertura', 'TASK', 'ENDED', 'NORMAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2024-08-07T12:49:17.039397708', '2024-10-22T13:10:17.039436623', 2, 1),
+    (5, 'Astros do Rock', 'TASK', 'ENDED', 'CULTURAL', 'TEACHER_STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2023-05-05T12:49:17.039397708', '2023-05-05T13:10:17.039436623', 1, 1),
+    (6, 'Se Ela Canta Eu Me Encanto', 'TASK', 'ENDED', 'CULTURAL', 'STUDENT', 'MIXED',  5, 5, 'bla bla bla', '2023-05-05T12:49:17.039397708', '2023-05-05T13:10:17.039436623', 1, 1);
 
 INSERT INTO
-    tb_event_score (score, team_id, event_id)
+    tb_event_score (id, score, team_id, event_id)
 VALUES
     -- Tentilhões
-    (20, 1, 1),
-    (50, 2, 1),
-    (40, 3, 1),
-    (10, 4, 1),
-    (40, 5, 1),
+    (1, 20, 1, 1),
+    (2, 50, 2, 1),
+    (3, 40, 3, 1),
+    (4, 10, 4, 1),
+    (5, 40, 5, 1),
 
     -- Geometria
-    (90, 1, 2),
-    (80, 2, 2),
-    (100, 3, 2),
-    (70, 4, 2),
-    (50, 5, 2),
+    (6, 90, 1, 2),
+    (7, 80, 2, 2),
+    (8, 100, 3, 2),
+    (9, 70, 4, 2),
+    (10, 50, 5, 2),
 
     -- Cores
-    (50, 1, 3),
-    (50, 2, 3),
-    (50, 3, 3),
-    (10, 4, 3),
-    (50, 5, 3),
+    (11, 50, 1, 3),
+    (12, 50, 2, 3),
+    (13, 50, 3, 3),
+    (14, 10, 4, 3),
+    (15, 50, 5, 3),
 
     -- Desfile
-    (50, 1, 4),
-    (50, 2, 4),
-    (50, 3, 4),
-    (50, 4, 4),
-    (50, 5, 4),
+    (16, 50, 1, 4),
+    (17, 50, 2, 4),
+    (18, 50, 3, 4),
+    (19, 50, 4, 4),
+    (20, 50, 5, 4),
 
     -- Astros
-    (100, 1, 5),
-    (70, 2, 5),
-    (50, 3, 5),
-    (80, 4, 5),
-    (90, 5, 5),
+    (21, 100, 1, 5),
+    (22, 70, 2, 5),
+    (23, 50, 3, 5),
+    (24, 80, 4, 5),
+    (25, 90, 5, 5),
 
     -- Se ela canta
-    (100, 1, 6),
-    (90, 2, 6),
-    (50, 3, 6),
-    (70, 4, 6),
-    (80, 5, 6);
+    (26, 100, 1, 6),
+    (27, 90, 2, 6),
+    (28, 50, 3, 6),
+    (29, 70, 4, 6),
+    (30, 80, 5, 6);
 
 
 INSERT INTO
-    tb_event_registration (participant_id, team_id, event_id)
+    tb_event_registration (id, participant_id, team_id, event_id)
 VALUES
     -- Tentilhões
-    (4, 1, 1),
-    (5, 1, 1),
-    (6, 1, 1),
-    (7, 1, 1),
-    (20, 1, 1),
-
-    (14, 2, 1),
-    (15, 2, 1),
-    (16, 2, 1),
-    (18, 2, 1),
-    (19, 2, 1),
-
-    (51, 3, 1),
-    (52, 3, 1),
-    (53, 3, 1),
-    (54, 3, 1),
-    (55, 3, 1),
-
-    (34, 4, 1),
-    (35, 4, 1),
-    (36, 4, 1),
-    (38, 4, 1),
-    (39, 4, 1),
-
-    (44, 5, 1),
-    (45, 5, 1),
-    (46, 5, 1),
-    (47, 5, 1),
-    (49, 5, 1),
+    (1, 4, 1, 1),
+    (2, 5, 1, 1),
+    (3, 6, 1, 1),
+    (4, 7, 1, 1),
+    (5, 20, 1, 1),
+
+    (6, 14, 2, 1),
+    (7, 15, 2, 1),
+    (8, 16, 2, 1),
+    (9, 18, 2, 1),
+    (10, 19, 2, 1),
+
+    (11, 51, 3, 1),
+    (12, 52, 3, 1),
+    (13, 53, 3, 1),
+    (14, 54, 3, 1),
+    (15, 55, 3, 1),
+
+    (16, 34, 4, 1),
+    (17, 35, 4, 1),
+    (18, 36, 4, 1),
+    (19, 38, 4, 1),
+    (20, 39, 4, 1),
+
+    (21, 44, 5, 1),
+    (22, 45, 5, 1),
+    (23, 46, 5, 1),
+    (24, 47, 5, 1),
+    (25, 49, 5, 1),
 
     -- Geometria
-    (4, 1, 2),
-    (5, 1, 2),
-    (6, 1, 2),
-    (7, 1, 2),
-    (20, 1, 2),
-
-    (14, 2, 2),
-    (15, 2, 2),
-    (16, 2, 2),
-    (18, 2, 2),
-    (19, 2, 2),
-
-    (51, 3, 2),
-    (52, 3, 2),
-    (53, 3, 2),
-    (54, 3, 2),
-    (55, 3, 2),
-
-    (34, 4, 2),
-    (35, 4, 2),
-    (36, 4, 2),
-    (38, 4, 2),
-    (39, 4, 2),
-
-    (44, 5, 2),
-    (45, 5, 2),
-    (46, 5, 2),
-    (47, 5, 2),
-    (49, 5, 2),
+    (26, 4, 1, 2),
+    (27, 5, 1, 2),
+    (28, 6, 1, 2),
+    (29, 7, 1, 2),
+    (30, 20, 1, 2),
+
+    (31, 14, 2, 2),
+    (32, 15, 2, 2),
+    (33, 16, 2, 2),
+    (34, 18, 2, 2),
+    (35, 19, 2, 2),
+
+    (36, 51, 3, 2),
+    (37, 52, 3, 2),
+    (38, 53, 3, 2),
+    (39, 54, 3, 2),
+    (40, 55, 3, 2),
+
+    (41, 34, 4, 2),
+    (42, 35, 4, 2),
+    (43, 36, 4, 2),
+    (44, 38, 4, 2),
+    (45, 39, 4, 2),
+
+    (46, 44, 5, 2),
+    (47, 45, 5, 2),
+    (48, 46, 5, 2),
+    (49, 47, 5, 2),
+    (50, 49, 5, 2),
 
     -- Cores
-    (4, 1, 3),
-    (5, 1, 3),
-    (6, 1, 3),
-    (7, 1, 3),
-    (20, 1, 3),
-
-    (14, 2, 3),
-    (15, 2, 3),
-    (16, 2, 3),
-    (18, 2, 3),
-    (19, 2, 3),
-
-    (51, 3, 3),
-    (52, 3, 3),
-    (53, 3, 3),
-    (54, 3, 3),
-    (55, 3, 3),
-
-    (34, 4, 3),
-    (35, 4, 3),
-    (36, 4, 3),
-    (38, 4, 3),
-    (39, 4, 3),
-
-    (44, 5, 3),
-    (45, 5, 3),
-    (46, 5, 3),
-    (47, 5, 3),
-    (49, 5, 3),
+    (51, 4, 1, 3),
+    (52, 5, 1, 3),
+    (53, 6, 1, 3),
+    (54, 7, 1, 3),
+    (55, 20, 1, 3),
+
+    (56, 14, 2, 3),
+    (57, 15, 2, 3),
+    (58, 16, 2, 3),
+    (59, 18, 2, 3),
+    (60, 19, 2, 3),
+
+    (61, 51, 3, 3),
+    (62, 52, 3, 3),
+    (63, 53, 3, 3),
+    (64, 54, 3, 3),
+    (65, 55, 3, 3),
+
+    (66, 34, 4, 3),
+    (67, 35, 4, 3),
+    (68, 36, 4, 3),
+    (69, 38, 4, 3),
+    (70, 39, 4, 3),
+
+    (71, 44, 5, 3),
+    (72, 45, 5, 3),
+    (73, 46, 5, 3),
+    (74, 47, 5, 3),
+    (75, 49, 5, 3),
 
     -- Desfile
-    (4, 1, 4),
-    (5, 1, 4),
-    (6, 1, 4),
-    (7, 1, 4),
-    (20, 1, 4),
-
-    (14, 2, 4),
-    (15, 2, 4),
-    (16, 2, 4),
-    (18, 2, 4),
-    (19, 2, 4),
-
-    (51, 3, 4),
-    (52, 3, 4),
-    (53, 3, 4),
-    (54, 3, 4),
-    (55, 3, 4),
-
-    (34, 4, 4),
-    (35, 4, 4),
-    (36, 4, 4),
-    (38, 4, 4),
-    (39, 4, 4),
-
-    (44, 5, 4),
-    (45, 5, 4),
-    (46, 5, 4),
-    (47, 5, 4),
-    (49, 5, 4),
+    (76, 4, 1, 4),
+    (77, 5, 1, 4),
+    (78, 6, 1, 4),
+    (79, 7, 1, 4),
+    (80, 20, 1, 4),
+
+    (81, 14, 2, 4),
+    (82, 15, 2, 4),
+    (83, 16, 2, 4),
+    (84, 18, 2, 4),
+    (85, 19, 2, 4),
+
+    (86, 51, 3, 4),
+    (87, 52, 3, 4),
+    (88, 53, 3, 4),
+    (89, 54, 3, 4),
+    (90, 55, 3, 4),
+
+    (91, 34, 4, 4),
+    (92, 35, 4, 4),
+    (93, 36, 4, 4),
+    (94, 38, 4, 4),
+    (95, 39, 4, 4),
+
+    (96, 44, 5, 4),
+    (97, 45, 5, 4),
+    (98, 46, 5, 4),
+    (99, 47, 5, 4),
+    (100, 49, 5, 4),
 
     -- Astros
-    (4, 1, 5),
-    (5, 1, 5),
-    (6, 1, 5),
-    (7, 1, 5),
-    (20, 1, 5),
-
-    (14, 2, 5),
-    (15, 2, 5),
-    (16, 2, 5),
-    (18, 2, 5),
-    (19, 2, 5),
-
-    (51, 3, 5),
-    (52, 3, 5),
-    (53, 3, 5),
-    (54, 3, 5),
-    (55, 3, 5),
-
-    (34, 4, 5),
-    (35, 4, 5),
-    (36, 4, 5),
-    (38, 4, 5),
-    (39, 4, 5),
-
-    (44, 5, 5),
-    (45, 5, 5),
-    (46, 5, 5),
-    (47, 5, 5),
-    (49, 5, 5),
+    (101, 4, 1, 5),
+    (102, 5, 1, 5),
+    (103, 6, 1, 5),
+    (104, 7, 1, 5),
+    (105, 20, 1, 5),
+
+    (106, 14, 2, 5),
+    (107, 15, 2, 5),
+    (108, 16, 2, 5),
+    (109, 18, 2, 5),
+    (110, 19, 2, 5),
+
+    (111, 51, 3, 5),
+    (112, 52, 3, 5),
+    (113, 53, 3, 5),
+    (114, 54, 3, 5),
+    (115, 55, 3, 5),
+
+    (116, 34, 4, 5),
+    (117, 35, 4, 5),
+    (118, 36, 4, 5),
+    (119, 38, 4, 5),
+    (120, 39, 4, 5),
+
+    (121, 44, 5, 5),
+    (122, 45, 5, 5),
+    (123, 46, 5, 5),
+    (124, 47, 5, 5),
+    (125, 49, 5, 5),
 
      -- Astros
-    (4, 1, 6),
-    (5, 1, 6),
-    (6, 1, 6),
-    (7, 1, 6),
-    (20, 1, 6),
-
-    (14, 2, 6),
-    (15, 2, 6),
-    (16, 2, 6),
-    (18, 2, 6),
-    (19, 2, 6),
-
-    (51, 3, 6),
-    (52, 3, 6),
-    (53, 3, 6),
-    (54, 3, 6),
-    (55, 3, 6),
-
-    (34, 4, 6),
-    (35, 4, 6),
-    (36, 4, 6),
-    (38, 4, 6),
-    (39, 4, 6),
-
-    (44, 5, 6),
-    (45, 5, 6),
-    (46, 5, 6),
-    (47, 5, 6),
-    (49, 5, 6);
+    (126, 4, 1, 6),
+    (127, 5, 1, 6),
+    (128, 6, 1, 6),
+    (129, 7, 1, 6),
+    (130, 20, 1, 6),
+
+    (131, 14, 2, 6),
+    (132, 15, 2, 6),
+    (133, 16, 2, 6),
+    (134, 18, 2, 6),
+    (135, 19, 2, 6),
+
+    (136, 51, 3, 6),
+    (137, 52, 3, 6),
+    (138, 53, 3, 6),
+    (139, 54, 3, 6),
+    (140, 55, 3, 6),
+
+    (141, 34, 4, 6),
+    (142, 35, 4, 6),
+    (143, 36, 4, 6),
+    (144, 38, 4, 6),
+    (145, 39, 4, 6),
+
+    (146, 44, 5, 6),
+    (147, 45, 5, 6),
+    (148, 46, 5, 6),
+    (149, 47, 5, 6),
+    (150, 49, 5, 6);
+
+-- SEQUENCES
+
+ALTER SEQUENCE tb_user_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_edition_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_team_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_team_score_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_participant_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_edition_registration_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_event_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_event_score_seq RESTART WITH 1000;
+ALTER SEQUENCE tb_event_registration_seq RESTART WITH 1000;
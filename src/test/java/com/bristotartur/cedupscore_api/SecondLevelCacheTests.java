@@ -0,0 +1,121 @@
+package com.bristotartur.cedupscore_api;
+
+import com.bristotartur.cedupscore_api.domain.Edition;
+import com.bristotartur.cedupscore_api.domain.Team;
+import com.bristotartur.cedupscore_api.dtos.request.TeamRequestDto;
+import com.bristotartur.cedupscore_api.enums.Status;
+import com.bristotartur.cedupscore_api.services.EditionService;
+import com.bristotartur.cedupscore_api.services.TeamService;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:second_level_cache_db")
+class SecondLevelCacheTests {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CacheManager jCacheManager;
+
+	@Autowired
+	private TeamService teamService;
+
+	@Autowired
+	private EditionService editionService;
+
+	@ParameterizedTest
+	@CsvSource({
+			"com.bristotartur.cedupscore_api.domain.Team, 100",
+			"com.bristotartur.cedupscore_api.domain.Edition, 100",
+			"com.bristotartur.cedupscore_api.domain.User, 500"
+	})
+	void entityRegionsAreCreatedFromCaffeineConf(String region, long maximumSize) {
+		var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		var cache = jCacheManager.getCache(region);
+
+		assertThat(sessionFactory.getCache().getRegion(region)).isNotNull();
+		assertThat(cache).isNotNull();
+		assertThat(cache.getConfiguration(CaffeineConfiguration.class).getMaximumSize())
+				.isEqualTo(OptionalLong.of(maximumSize));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"default-query-results-region", "default-update-timestamps-region"})
+	void queryRegionsAreCreatedFromCaffeineConf(String region) {
+		assertThat(jCacheManager.getCache(region)).isNotNull();
+	}
+
+	@Test
+	void secondReadOfATeamIsServedFromTheCache() {
+		this.evictAndClearStatistics(Team.class);
+
+		teamService.findTeamById(1L);
+		teamService.findTeamById(1L);
+
+		var statistics = this.findRegionStatistics(Team.class);
+
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void secondReadOfAnEditionIsServedFromTheCache() {
+		this.evictAndClearStatistics(Edition.class);
+
+		editionService.findEditionById(1L);
+		editionService.findEditionById(1L);
+
+		var statistics = this.findRegionStatistics(Edition.class);
+
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void teamUpdatedThroughTheServiceIsReadBackFresh() {
+		var original = teamService.findTeamById(2L);
+		teamService.findTeamById(2L);
+
+		teamService.replaceTeam(2L, new TeamRequestDto("Mestres da Obra", original.getLogoUrl()));
+
+		assertThat(teamService.findTeamById(2L).getName()).isEqualTo("Mestres da Obra");
+
+		teamService.replaceTeam(2L, new TeamRequestDto(original.getName(), original.getLogoUrl()));
+	}
+
+	@Test
+	void editionUpdatedThroughTheServiceIsReadBackFresh() {
+		assertThat(editionService.findEditionById(2L).getStatus()).isEqualTo(Status.SCHEDULED);
+
+		editionService.updateEditionStatus(2L, Status.IN_PROGRESS);
+
+		assertThat(editionService.findEditionById(2L).getStatus()).isEqualTo(Status.IN_PROGRESS);
+	}
+
+	private void evictAndClearStatistics(Class<?> entity) {
+		var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+		sessionFactory.getCache().evictEntityData(entity);
+		sessionFactory.getStatistics().clear();
+	}
+
+	private CacheRegionStatistics findRegionStatistics(Class<?> entity) {
+		return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+				.getStatistics()
+				.getDomainDataRegionStatistics(entity.getName());
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.bristotartur.cedupscore_api.infra.persistence;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProdDataSourcePropertiesTests {
+
+	@Test
+	void prodProfileBindsTheMySqlUrlAndPoolSettings() throws Exception {
+		var environment = new StandardEnvironment();
+		new YamlPropertySourceLoader()
+				.load("application-prod", new ClassPathResource("application-prod.yml"))
+				.forEach(environment.getPropertySources()::addFirst);
+		var binder = Binder.get(environment);
+
+		var dataSource = binder.bindOrCreate("spring.datasource", DataSourceProperties.class);
+		var hikari = binder.bindOrCreate("spring.datasource.hikari", HikariConfig.class);
+
+		assertThat(dataSource.getUrl())
+				.startsWith("jdbc:mysql://")
+				.contains("rewriteBatchedStatements=true")
+				.contains("useCursorFetch=true");
+		assertThat(hikari.getMaximumPoolSize()).isEqualTo(10);
+		assertThat(hikari.getConnectionTimeout()).isEqualTo(30_000L);
+		assertThat(environment.containsProperty("spring.data-source.url")).isFalse();
+	}
+
+}
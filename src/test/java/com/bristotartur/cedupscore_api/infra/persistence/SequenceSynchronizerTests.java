@@ -0,0 +1,56 @@
+package com.bristotartur.cedupscore_api.infra.persistence;
+
+import com.bristotartur.cedupscore_api.domain.Team;
+import com.bristotartur.cedupscore_api.repositories.TeamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sequence_sync_db")
+class SequenceSynchronizerTests {
+
+	@Autowired
+	private SequenceSynchronizer sequenceSynchronizer;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void sequencesAreMovedPastRowsInsertedWithExplicitIds() {
+		jdbcTemplate.update("INSERT INTO tb_team (id, name, logo_url, is_active) VALUES (5000, 'Legada', 'LEGADA', true)");
+
+		sequenceSynchronizer.synchronize();
+
+		var team = teamRepository.save(Team.builder()
+				.name("Nova")
+				.logoUrl("NOVA")
+				.isActive(true)
+				.build());
+
+		assertThat(team.getId()).isGreaterThan(5000L);
+	}
+
+	@Test
+	void synchronizingDoesNotConsumeSequenceValues() {
+		sequenceSynchronizer.synchronize();
+		var before = this.findNextTeamId();
+
+		sequenceSynchronizer.synchronize();
+		sequenceSynchronizer.synchronize();
+
+		assertThat(this.findNextTeamId()).isEqualTo(before);
+	}
+
+	private Long findNextTeamId() {
+		return jdbcTemplate.queryForObject(
+				"SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TB_TEAM_SEQ'", Long.class
+		);
+	}
+
+}
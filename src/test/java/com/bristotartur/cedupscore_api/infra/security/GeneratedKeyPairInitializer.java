@@ -0,0 +1,43 @@
+package com.bristotartur.cedupscore_api.infra.security;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+
+public class GeneratedKeyPairInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final Map<String, Object> KEYS = generateKeys();
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        context.getEnvironment()
+                .getPropertySources()
+                .addFirst(new MapPropertySource("generatedKeyPair", KEYS));
+    }
+
+    private static Map<String, Object> generateKeys() {
+        try {
+            var generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+
+            var keyPair = generator.generateKeyPair();
+
+            return Map.of(
+                    "api.security.public.key", pem("PUBLIC KEY", keyPair.getPublic().getEncoded()),
+                    "api.security.private.key", pem("PRIVATE KEY", keyPair.getPrivate().getEncoded())
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String pem(String type, byte[] key) {
+        return "-----BEGIN %1$s-----\n%2$s\n-----END %1$s-----\n".formatted(type, Base64.getEncoder().encodeToString(key));
+    }
+
+}
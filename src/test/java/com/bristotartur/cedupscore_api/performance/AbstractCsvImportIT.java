@@ -0,0 +1,78 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.bristotartur.cedupscore_api.enums.CpfValidationResult;
+import com.bristotartur.cedupscore_api.services.ParticipantCSVService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DirtiesContext
+@Tag("performance")
+abstract class AbstractCsvImportIT {
+
+    private static final int ROWS = Integer.getInteger("performance.import.rows", 10_000);
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Autowired
+    private ParticipantCSVService participantCSVService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void recordImportCost() throws Exception {
+        var teams = jdbcTemplate.queryForList("SELECT name FROM tb_team WHERE is_active = true ORDER BY id", String.class);
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var csv = new StringBuilder("nome,cpf,gênero,tipo,equipe\n");
+
+        for (int row = 0; row < ROWS; row++) {
+            csv.append("participante %d,%s,Feminino,Professor,%s\n"
+                    .formatted(row, CpfValidationResult.generate(200_000_000L + row), teams.get(row % teams.size())));
+        }
+        var file = new MockMultipartFile("file", "participants.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        statistics.clear();
+        var start = System.nanoTime();
+        var report = participantCSVService.handleParticipantsRegistrationCSVFile(file);
+        var elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        var mode = (batchSize > 1) ? "batched" : "unbatched";
+        var path = Path.of("target/performance-csv-import-%s.json".formatted(mode));
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), Map.of(
+                "mode", mode,
+                "batchSize", batchSize,
+                "rows", ROWS,
+                "wallTimeMs", elapsedMs,
+                "preparedStatements", statistics.getPrepareStatementCount(),
+                "entityInserts", statistics.getEntityInsertCount(),
+                "statementsPerRow", (double) statistics.getPrepareStatementCount() / ROWS
+        ));
+
+        assertThat(report.added()).isEqualTo(ROWS);
+        assertThat(report.registered()).isEqualTo(ROWS);
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles({"scale", "perf"})
+@Import(PerformanceUser.class)
+@DirtiesContext
+@Tag("performance")
+abstract class AbstractThreadingModeIT {
+
+    private static final int REQUESTS = Integer.getInteger("performance.threads.requests", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("performance.threads.concurrency", 400);
+    private static final int MAX_PINNED_EVENTS = Integer.getInteger("performance.threads.max-pinned-events", -1);
+    private static final int STACK_DEPTH = 8;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @Value("${api.seed.scale.participants-per-edition}")
+    private int participants;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void recordLoadAndPinning() throws Exception {
+        var driver = new LoadDriver(port, objectMapper);
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var reports = new ArrayList<LoadDriver.EndpointReport>();
+        var pinnedStacks = new ConcurrentHashMap<String, LongAdder>();
+
+        driver.login(PerformanceUser.EMAIL, PerformanceUser.PASSWORD);
+
+        try (var recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> pinnedStacks.computeIfAbsent(this.describeStack(event), k -> new LongAdder()).increment());
+            recording.startAsync();
+
+            reports.add(driver.measure(statistics, "GET /participants", REQUESTS, CONCURRENCY,
+                    i -> driver.get("/api/v1/participants?page=%d".formatted(i % 50))));
+            reports.add(driver.measure(statistics, "GET /participants?name", REQUESTS, CONCURRENCY,
+                    i -> driver.get("/api/v1/participants?name=santos&page=%d".formatted(i % 10))));
+            reports.add(driver.measure(statistics, "GET /events", REQUESTS, CONCURRENCY,
+                    i -> driver.get("/api/v1/events?page=%d".formatted(i % 20))));
+            reports.add(driver.measure(statistics, "GET /editions", REQUESTS, CONCURRENCY,
+                    i -> driver.get("/api/v1/editions")));
+
+            recording.stop();
+        }
+        var pinned = pinnedStacks.entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum(), (a, b) -> a, LinkedHashMap::new));
+        var pinnedEvents = pinned.values().stream().mapToLong(Long::longValue).sum();
+        var mode = virtualThreads ? "virtual" : "platform";
+
+        driver.writeReport("target/performance-threads-%s.json".formatted(mode), Map.of(
+                "mode", mode,
+                "participants", participants,
+                "endpoints", reports,
+                "pinnedEvents", pinnedEvents,
+                "pinnedStacks", pinned
+        ));
+
+        assertThat(reports).allSatisfy(report -> assertThat(report.errors())
+                .as("errors in %s", report.endpoint())
+                .isZero());
+
+        if (MAX_PINNED_EVENTS >= 0) {
+            assertThat(pinnedEvents).as("virtual thread pinning events").isLessThanOrEqualTo(MAX_PINNED_EVENTS);
+        }
+    }
+
+    private String describeStack(RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+
+        if (stackTrace == null) return "<unknown>";
+
+        return stackTrace.getFrames()
+                .stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "%s.%s:%d".formatted(
+                        frame.getMethod().getType().getName(), frame.getMethod().getName(), frame.getLineNumber()
+                ))
+                .collect(Collectors.joining(" <- "));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batched_import_db;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BatchedCsvImportIT extends AbstractCsvImportIT {
+}
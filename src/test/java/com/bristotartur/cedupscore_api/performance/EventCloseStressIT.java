@@ -0,0 +1,238 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.bristotartur.cedupscore_api.dtos.request.EventScoreRequestDto;
+import com.bristotartur.cedupscore_api.enums.*;
+import com.bristotartur.cedupscore_api.repositories.EventRepository;
+import com.bristotartur.cedupscore_api.services.EventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event_close_db;DB_CLOSE_DELAY=-1",
+        "spring.sql.init.mode=never"
+})
+@DirtiesContext
+@Tag("performance")
+class EventCloseStressIT {
+
+    private static final int EVENTS = Integer.getInteger("performance.close.events", 400);
+    private static final int CONCURRENCY = Integer.getInteger("performance.close.concurrency", 8);
+    // Lowest accepted ratio between the atomic and the read-modify-write throughput.
+    private static final double MIN_THROUGHPUT_RATIO = Double.parseDouble(System.getProperty("performance.close.min-throughput-ratio", "0.8"));
+    private static final long EDITION_ID = 1L;
+    private static final int TEAMS = 5;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void parallelClosesApplyExactTotals() throws Exception {
+        this.seed();
+
+        var baselineEvents = new ArrayList<Long>();
+        var atomicEvents = new ArrayList<Long>();
+
+        for (long id = 1; id <= EVENTS; id++) {
+            ((id % 2 == 0) ? atomicEvents : baselineEvents).add(id);
+        }
+        var beforeBaseline = this.findTeamTotals("score");
+        var baseline = this.closeInParallel(baselineEvents, this::closeWithReadModifyWrite);
+        var beforeAtomic = this.findTeamTotals("score");
+        var atomic = this.closeInParallel(atomicEvents, this::closeWithAtomicIncrements);
+        var afterAtomic = this.findTeamTotals("score");
+
+        var expectedPerEvent = 0L;
+        var lostPoints = 0L;
+
+        for (long team = 1; team <= TEAMS; team++) {
+            expectedPerEvent += closingScore(team);
+            lostPoints += closingScore(team) * baselineEvents.size() - (beforeAtomic.get(team) - beforeBaseline.get(team));
+        }
+        var path = Path.of("target/performance-event-close.json");
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), Map.of(
+                "events", EVENTS,
+                "concurrency", CONCURRENCY,
+                "readModifyWrite", Map.of(
+                        "closes", baselineEvents.size(),
+                        "closesPerSecond", baseline.closesPerSecond(),
+                        "errors", baseline.errors(),
+                        "lostPoints", lostPoints,
+                        "expectedPoints", expectedPerEvent * baselineEvents.size()
+                ),
+                "atomicIncrement", Map.of(
+                        "closes", atomicEvents.size(),
+                        "closesPerSecond", atomic.closesPerSecond(),
+                        "errors", atomic.errors()
+                ),
+                "throughputRatio", atomic.closesPerSecond() / baseline.closesPerSecond()
+        ));
+
+        assertThat(atomic.errors()).isZero();
+        assertThat(atomic.closesPerSecond())
+                .as("atomic closes per second against %.1f with read-modify-write", baseline.closesPerSecond())
+                .isGreaterThanOrEqualTo(baseline.closesPerSecond() * MIN_THROUGHPUT_RATIO);
+
+        for (long team = 1; team <= TEAMS; team++) {
+            assertThat(afterAtomic.get(team) - beforeAtomic.get(team))
+                    .as("score of team %d", team)
+                    .isEqualTo(closingScore(team) * atomicEvents.size());
+        }
+    }
+
+    private void closeWithAtomicIncrements(long eventId) {
+        eventService.closeEvent(eventId, this.closingScores(eventId));
+    }
+
+    private void closeWithReadModifyWrite(long eventId) {
+        transactionTemplate.executeWithoutResult(transaction -> {
+            var event = eventRepository.findById(eventId).orElseThrow();
+            var edition = event.getEdition();
+
+            event.setStatus(Status.ENDED);
+            event.setEndedAt(LocalDateTime.now());
+            event.getScores().forEach(score -> {
+                score.setScore((int) closingScore(score.getTeam().getId()));
+                edition.getTeamScores().stream()
+                        .filter(teamScore -> teamScore.getTeam().equals(score.getTeam()))
+                        .findFirst()
+                        .ifPresent(teamScore -> teamScore.setScore(teamScore.getScore() + score.getScore()));
+            });
+        });
+    }
+
+    private CloseRun closeInParallel(List<Long> events, LongConsumer close) throws Exception {
+        var errors = 0;
+        var start = System.nanoTime();
+
+        try (var executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            var futures = new ArrayList<Future<?>>(events.size());
+
+            for (var eventId : events) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    close.accept(eventId);
+                    return null;
+                }));
+            }
+            for (var future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    errors++;
+                }
+            }
+        }
+        var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new CloseRun(events.size() / seconds, errors);
+    }
+
+    private Map<Long, Long> findTeamTotals(String column) {
+        return jdbcTemplate.queryForList("SELECT team_id, %s AS total FROM tb_team_score WHERE edition_id = ?".formatted(column), EDITION_ID)
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row.get("team_id")).longValue(),
+                        row -> ((Number) row.get("total")).longValue()
+                ));
+    }
+
+    private Set<EventScoreRequestDto> closingScores(long eventId) {
+        var scores = new HashSet<EventScoreRequestDto>();
+
+        for (long team = 1; team <= TEAMS; team++) {
+            scores.add(new EventScoreRequestDto(eventScoreId(eventId, team), (int) closingScore(team)));
+        }
+        return scores;
+    }
+
+    private void seed() {
+        var now = LocalDateTime.now();
+
+        jdbcTemplate.update(
+                "INSERT INTO tb_user (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)",
+                1L, "Performance", "performance@cedupscore.com", "-", RoleType.SUPER_ADMIN.name()
+        );
+        jdbcTemplate.update(
+                "INSERT INTO tb_edition (id, status, start_date, closing_date) VALUES (?, ?, ?, ?)",
+                EDITION_ID, Status.IN_PROGRESS.name(), now, now
+        );
+        for (long team = 1; team <= TEAMS; team++) {
+            jdbcTemplate.update(
+                    "INSERT INTO tb_team (id, name, logo_url, is_active) VALUES (?, ?, ?, ?)",
+                    team, "Equipe " + team, "EQUIPE_" + team, true
+            );
+            jdbcTemplate.update(
+                    "INSERT INTO tb_team_score (id, score, team_id, tasks_won, sports_won, edition_id) VALUES (?, ?, ?, ?, ?, ?)",
+                    team, 0, team, 0, 0, EDITION_ID
+            );
+        }
+        var events = new ArrayList<Object[]>();
+        var scores = new ArrayList<Object[]>();
+
+        for (long id = 1; id <= EVENTS; id++) {
+            events.add(new Object[]{
+                    id, "Tarefa " + id, EventType.TASK.name(), Status.IN_PROGRESS.name(), ExtraType.NORMAL.name(),
+                    ParticipantType.ALL.name(), Modality.MIXED.name(), 1, 10, now, now, EDITION_ID, 1L
+            });
+            for (long team = 1; team <= TEAMS; team++) {
+                scores.add(new Object[]{eventScoreId(id, team), 0, team, id});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tb_event (id, name, type, status, extra_type, allowed_participant_type, modality,
+                    min_participants_per_team, max_participants_per_team, started_at, ended_at, edition_id, responsible_user_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, events);
+        jdbcTemplate.batchUpdate("INSERT INTO tb_event_score (id, score, team_id, event_id) VALUES (?, ?, ?, ?)", scores);
+
+        // The JDBC inserts bypass Hibernate, so nothing cached before the seed may be served for these rows.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private static long eventScoreId(long eventId, long teamId) {
+        return (eventId - 1) * TEAMS + teamId;
+    }
+
+    private static long closingScore(long teamId) {
+        return (TEAMS + 1 - teamId) * 10;
+    }
+
+    private record CloseRun(double closesPerSecond, int errors) {
+    }
+
+}
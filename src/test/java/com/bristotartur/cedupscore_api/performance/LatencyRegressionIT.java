@@ -0,0 +1,174 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.bristotartur.cedupscore_api.enums.CpfValidationResult;
+import com.bristotartur.cedupscore_api.enums.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"scale", "perf"})
+@Import(PerformanceUser.class)
+@Tag("performance")
+class LatencyRegressionIT {
+
+    private static final int REQUESTS = Integer.getInteger("performance.requests", 200);
+    private static final int CONCURRENCY = Integer.getInteger("performance.concurrency", 8);
+    private static final int CSV_UPLOADS = 10;
+    private static final int CSV_ROWS = 500;
+    private static final String REPORT = System.getProperty("performance.report", "target/performance-report.json");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${api.seed.scale.participants-per-edition}")
+    private int participants;
+
+    @Value("${api.seed.scale.events-per-edition}")
+    private int events;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private LoadDriver driver;
+
+    private SeasonQueries season;
+
+    private List<String> teamNames;
+
+    @Test
+    void recordEndpointLatencies() throws Exception {
+        driver = new LoadDriver(port, objectMapper);
+        driver.login(PerformanceUser.EMAIL, PerformanceUser.PASSWORD);
+        season = new SeasonQueries(jdbcTemplate);
+        teamNames = season.teamNames();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var editionId = season.editionId();
+        var teamIds = season.teamIds();
+        var scheduledEvents = season.taskEvents(Status.SCHEDULED);
+        var inProgressEvents = season.taskEvents(Status.IN_PROGRESS);
+        var rosters = teamIds.stream().collect(Collectors.toMap(Function.identity(), season::roster));
+        var registrations = IntStream.range(0, scheduledEvents.size())
+                .mapToObj(i -> this.registerInEvent(rosters, i, scheduledEvents.get(i)))
+                .toList();
+        var closes = inProgressEvents.stream()
+                .map(this::closeEvent)
+                .toList();
+        var reports = new ArrayList<LoadDriver.EndpointReport>();
+
+        reports.add(driver.measure(statistics, "GET /participants", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?page=%d".formatted(i % 50))));
+        reports.add(driver.measure(statistics, "GET /participants?name (prefix)", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?name=JO")));
+        reports.add(driver.measure(statistics, "GET /participants?name (infix)", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?name=santos")));
+        reports.add(driver.measure(statistics, "GET /participants?edition", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?edition=%d&page=%d".formatted(editionId, i % 50))));
+        reports.add(driver.measure(statistics, "GET /participants?team", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?team=%d".formatted(teamIds.get(i % teamIds.size())))));
+        reports.add(driver.measure(statistics, "GET /participants?gender", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?gender=MALE")));
+        reports.add(driver.measure(statistics, "GET /participants?type", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?type=TEACHER")));
+        reports.add(driver.measure(statistics, "GET /participants?status", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?status=active")));
+        reports.add(driver.measure(statistics, "GET /participants?order", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?order=a-z&page=%d".formatted(i % 50))));
+        reports.add(driver.measure(statistics, "GET /participants?event", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?event=%d".formatted(inProgressEvents.get(i % inProgressEvents.size())))));
+        reports.add(driver.measure(statistics, "GET /participants?not-in-event", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/participants?not-in-event=%d".formatted(scheduledEvents.get(i % scheduledEvents.size())))));
+        reports.add(driver.measure(statistics, "GET /events", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/events?page=%d".formatted(i % 20))));
+        reports.add(driver.measure(statistics, "GET /events?edition", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/events?edition=%d".formatted(editionId))));
+        reports.add(driver.measure(statistics, "GET /editions", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/editions")));
+        reports.add(driver.measure(statistics, "GET /editions/{id}", REQUESTS, CONCURRENCY,
+                i -> driver.get("/api/v1/editions/%d".formatted(editionId))));
+        reports.add(driver.measure(statistics, "POST /participants/upload/registration-csv", CSV_UPLOADS, 2,
+                this::uploadCsv));
+        reports.add(driver.measure(statistics, "POST /participants/register-in-event/{id}", scheduledEvents.size(), CONCURRENCY,
+                registrations::get));
+        reports.add(driver.measure(statistics, "PATCH /events/{id}/close", inProgressEvents.size(), CONCURRENCY,
+                closes::get));
+
+        driver.writeReport(REPORT, Map.of(
+                "participants", participants,
+                "events", events,
+                "endpoints", reports
+        ));
+
+        assertThat(reports).allSatisfy(report -> assertThat(report.errors())
+                .as("errors in %s", report.endpoint())
+                .isZero());
+    }
+
+    private HttpRequest registerInEvent(Map<Long, List<Long>> rosters, int index, Long eventId) {
+        var registrations = new ArrayList<Map<String, Long>>();
+
+        rosters.forEach((teamId, roster) -> {
+            for (int k = 0; k < 5; k++) {
+                registrations.add(Map.of("participantId", roster.get((index * 5 + k) % roster.size()), "teamId", teamId));
+            }
+        });
+        return driver.json("/api/v1/participants/register-in-event/%d".formatted(eventId), "POST", registrations);
+    }
+
+    private HttpRequest closeEvent(Long eventId) {
+        return driver.json("/api/v1/events/%d/close".formatted(eventId), "PATCH", season.closingScores(eventId));
+    }
+
+    private HttpRequest uploadCsv(int upload) {
+        var boundary = "cedupscore-" + UUID.randomUUID();
+        var csv = new StringBuilder("nome,cpf,gênero,tipo,equipe\n");
+
+        for (int row = 0; row < CSV_ROWS; row++) {
+            var seed = 100_000_000L + (long) upload * CSV_ROWS + row;
+            csv.append("participante %d,%s,Feminino,Professor,%s\n"
+                    .formatted(seed, CpfValidationResult.generate(seed), teamNames.get(row % teamNames.size())));
+        }
+        var body = """
+                --%1$s\r
+                Content-Disposition: form-data; name="file"; filename="participants.csv"\r
+                Content-Type: text/csv\r
+                \r
+                %2$s\r
+                --%1$s--\r
+                """.formatted(boundary, csv);
+
+        return driver.authorized("/api/v1/participants/upload/registration-csv")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.stat.Statistics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+class LoadDriver {
+
+    private final int port;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private String token;
+
+    LoadDriver(int port, ObjectMapper objectMapper) {
+        this.port = port;
+        this.objectMapper = objectMapper;
+    }
+
+    void login(String email, String password) throws IOException, InterruptedException {
+        var body = objectMapper.writeValueAsString(Map.of("email", email, "password", password));
+        var request = HttpRequest.newBuilder(this.uri("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        token = objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    EndpointReport measure(Statistics statistics, String endpoint, int requests, int concurrency,
+                           IntFunction<HttpRequest> requestFactory) throws Exception {
+        var latencies = new long[requests];
+        var errors = 0;
+        var permits = new Semaphore(concurrency);
+
+        statistics.clear();
+        var start = System.nanoTime();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<Integer>>(requests);
+
+            for (int i = 0; i < requests; i++) {
+                var index = i;
+
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        var requestStart = System.nanoTime();
+                        var response = client.send(requestFactory.apply(index), HttpResponse.BodyHandlers.discarding());
+
+                        latencies[index] = System.nanoTime() - requestStart;
+                        return response.statusCode();
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (var future : futures) {
+                if (future.get() >= 400) errors++;
+            }
+        }
+        var elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Arrays.sort(latencies);
+
+        return new EndpointReport(
+                endpoint,
+                requests,
+                concurrency,
+                errors,
+                requests / elapsedSeconds,
+                this.percentile(latencies, 50),
+                this.percentile(latencies, 95),
+                this.percentile(latencies, 99),
+                this.percentile(latencies, 100),
+                (double) statistics.getPrepareStatementCount() / requests
+        );
+    }
+
+    HttpRequest get(String path) {
+        return this.authorized(path).GET().build();
+    }
+
+    HttpRequest json(String path, String method, Object body) {
+        try {
+            return this.authorized(path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(this.uri(path))
+                .timeout(Duration.ofMinutes(2))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    void writeReport(String location, Map<String, Object> report) throws IOException {
+        var path = Path.of(location);
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+    }
+
+    private double percentile(long[] sortedLatencies, int percentile) {
+        var index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:%d%s".formatted(port, path));
+    }
+
+    record EndpointReport(
+            String endpoint,
+            int requests,
+            int concurrency,
+            int errors,
+            double requestsPerSecond,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            double statementsPerRequest
+    ) {
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.bristotartur.cedupscore_api.domain.Participant;
+import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.bristotartur.cedupscore_api.repositories.ParticipantSpecifications.hasName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compares the name filter that scanned upper(name) with the search_name/trigram path over a seeded roster.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:name_search_db;DB_CLOSE_DELAY=-1",
+        "api.seed.scale.participants-per-edition=${performance.search.participants:100000}",
+        "api.seed.scale.events-per-edition=10"
+})
+@ActiveProfiles({"scale", "perf"})
+@Import(PerformanceUser.class)
+@DirtiesContext
+@Tag("performance")
+class NameSearchIT {
+
+    private static final int REPETITIONS = Integer.getInteger("performance.search.repetitions", 30);
+
+    @Value("${api.seed.scale.participants-per-edition}")
+    private int participants;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void recordNameSearchLatencies() throws Exception {
+        var sample = jdbcTemplate.queryForObject(
+                "SELECT search_name FROM tb_participant ORDER BY id LIMIT 1 OFFSET ?", String.class, participants / 2
+        );
+        var lastName = sample.substring(sample.lastIndexOf(' ') + 1);
+        var terms = new LinkedHashMap<String, String>();
+
+        terms.put("twoCharacters", lastName.substring(0, 2));
+        terms.put("trigram", lastName.substring(0, 3));
+        terms.put("infix", sample.substring(1, Math.min(sample.length(), 8)));
+        terms.put("noMatch", "XQZW");
+
+        var firstName = sample.substring(0, sample.indexOf(' '));
+
+        var results = new LinkedHashMap<String, Object>();
+
+        for (var term : terms.entrySet()) {
+            var legacy = this.measure(legacyName(term.getValue()));
+            var indexed = this.measure(hasName(term.getValue()));
+
+            assertThat(indexed.matches())
+                    .as("matches for '%s'", term.getValue())
+                    .isGreaterThanOrEqualTo(legacy.matches());
+
+            results.put(term.getKey(), Map.of(
+                    "term", term.getValue(),
+                    "upperNameLike", legacy,
+                    "searchName", indexed,
+                    "speedup", legacy.medianMs() / indexed.medianMs()
+            ));
+        }
+        var legacyPrefix = this.measure(legacyNamePrefix(firstName));
+        var indexedPrefix = this.measure(hasName(firstName, true));
+
+        assertThat(indexedPrefix.matches()).isGreaterThanOrEqualTo(legacyPrefix.matches());
+        results.put("prefix", Map.of(
+                "term", firstName,
+                "upperNameLike", legacyPrefix,
+                "searchName", indexedPrefix,
+                "speedup", legacyPrefix.medianMs() / indexedPrefix.medianMs()
+        ));
+
+        var path = Path.of("target/performance-name-search.json");
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), Map.of(
+                "participants", participantRepository.count(),
+                "repetitions", REPETITIONS,
+                "terms", results
+        ));
+    }
+
+    private SearchRun measure(Specification<Participant> spec) {
+        var timings = new double[REPETITIONS];
+        var matches = 0L;
+
+        for (int i = 0; i < REPETITIONS; i++) {
+            var start = System.nanoTime();
+            matches = participantRepository.count(spec);
+            timings[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(timings);
+        return new SearchRun(matches, timings[REPETITIONS / 2], timings[(int) Math.ceil(REPETITIONS * 0.95) - 1]);
+    }
+
+    // The filter hasName replaced: an unindexable infix LIKE over upper(name).
+    private static Specification<Participant> legacyName(String name) {
+        return (root, query, criteria) ->
+                criteria.like(criteria.upper(root.get("name")), "%" + name.toUpperCase(Locale.ROOT) + "%");
+    }
+
+    private static Specification<Participant> legacyNamePrefix(String name) {
+        return (root, query, criteria) ->
+                criteria.like(criteria.upper(root.get("name")), name.toUpperCase(Locale.ROOT) + "%");
+    }
+
+    private record SearchRun(long matches, double medianMs, double p95Ms) {
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.bristotartur.cedupscore_api.enums.RoleType;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@TestConfiguration
+class PerformanceUser {
+
+    static final String EMAIL = "performance@cedupscore.com";
+    static final String PASSWORD = "performance";
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    ApplicationRunner performanceUserRunner(JdbcTemplate jdbcTemplate, BCryptPasswordEncoder passwordEncoder) {
+        return args -> jdbcTemplate.update(
+                "INSERT INTO tb_user (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)",
+                1L, "Performance", EMAIL, passwordEncoder.encode(PASSWORD), RoleType.SUPER_ADMIN.name()
+        );
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import com.bristotartur.cedupscore_api.enums.EventType;
+import com.bristotartur.cedupscore_api.enums.ExtraType;
+import com.bristotartur.cedupscore_api.enums.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class SeasonQueries {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SeasonQueries(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    long editionId() {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM tb_edition WHERE status IN (?, ?)", Long.class, Status.SCHEDULED.name(), Status.IN_PROGRESS.name()
+        );
+    }
+
+    List<Long> teamIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM tb_team WHERE is_active = true ORDER BY id", Long.class);
+    }
+
+    List<String> teamNames() {
+        return jdbcTemplate.queryForList("SELECT name FROM tb_team WHERE is_active = true ORDER BY id", String.class);
+    }
+
+    List<Long> taskEvents(Status status) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM tb_event WHERE edition_id = ? AND status = ? AND type = ? AND extra_type <> ? ORDER BY id",
+                Long.class, this.editionId(), status.name(), EventType.TASK.name(), ExtraType.CULTURAL.name()
+        );
+    }
+
+    List<Long> roster(long teamId) {
+        return jdbcTemplate.queryForList("""
+                SELECT er.participant_id
+                FROM tb_edition_registration er
+                JOIN tb_participant p ON p.id = er.participant_id
+                WHERE er.edition_id = ? AND er.team_id = ? AND p.is_active = true
+                ORDER BY er.participant_id
+                """, Long.class, this.editionId(), teamId);
+    }
+
+    List<Map<String, Long>> closingScores(long eventId) {
+        var ids = jdbcTemplate.queryForList("SELECT id FROM tb_event_score WHERE event_id = ? ORDER BY team_id", Long.class, eventId);
+        var scores = new ArrayList<Map<String, Long>>();
+
+        for (int team = 0; team < ids.size(); team++) {
+            scores.add(Map.of("id", ids.get(team), "score", closingScore(team)));
+        }
+        return scores;
+    }
+
+    static long closingScore(int teamIndex) {
+        return 50L - teamIndex * 10L;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:unbatched_import_db;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+        "spring.jpa.properties.hibernate.order_inserts=false"
+})
+class UnbatchedCsvImportIT extends AbstractCsvImportIT {
+}
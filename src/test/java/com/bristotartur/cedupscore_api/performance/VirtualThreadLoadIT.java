@@ -0,0 +1,13 @@
+package com.bristotartur.cedupscore_api.performance;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "spring.datasource.url=jdbc:h2:mem:virtual_threads_db;DB_CLOSE_DELAY=-1"
+        }
+)
+class VirtualThreadLoadIT extends AbstractThreadingModeIT {
+}
@@ -0,0 +1,70 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.dtos.request.EventScoreRequestDto;
+import com.bristotartur.cedupscore_api.enums.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:event_service_db")
+class EventServiceTests {
+
+	private static final long EDITION_ID = 2L;
+	private static final long EVENT_ID = 900L;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void tiedTaskOnlyCreditsTheTeamsWhoseTotalMatchedTheTopScore() {
+		var now = LocalDateTime.now();
+
+		jdbcTemplate.update("""
+				INSERT INTO tb_event (id, name, type, status, extra_type, allowed_participant_type, modality,
+					min_participants_per_team, max_participants_per_team, started_at, ended_at, edition_id, responsible_user_id)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+				""",
+				EVENT_ID, "Tarefa empatada", EventType.TASK.name(), Status.IN_PROGRESS.name(), ExtraType.NORMAL.name(),
+				ParticipantType.ALL.name(), Modality.MIXED.name(), 1, 10, now, now, EDITION_ID, 1L
+		);
+		var scores = new HashSet<EventScoreRequestDto>();
+
+		for (long team = 1; team <= 5; team++) {
+			jdbcTemplate.update("INSERT INTO tb_event_score (id, score, team_id, event_id) VALUES (?, ?, ?, ?)", EVENT_ID * 10 + team, 0, team, EVENT_ID);
+			scores.add(new EventScoreRequestDto(EVENT_ID * 10 + team, 50));
+		}
+		jdbcTemplate.update("UPDATE tb_team_score SET score = 50 WHERE team_id = 3 AND edition_id = ?", EDITION_ID);
+		var tasksWonBefore = this.findTasksWon();
+
+		eventService.closeEvent(EVENT_ID, scores);
+
+		var tasksWonAfter = this.findTasksWon();
+
+		for (long team = 1; team <= 5; team++) {
+			assertThat(tasksWonAfter.get(team) - tasksWonBefore.get(team))
+					.as("tasks won by team %d", team)
+					.isEqualTo((team == 3) ? 1 : 0);
+		}
+	}
+
+	private Map<Long, Long> findTasksWon() {
+		return jdbcTemplate.queryForList("SELECT team_id, tasks_won FROM tb_team_score WHERE edition_id = ?", EDITION_ID)
+				.stream()
+				.collect(Collectors.toMap(
+						row -> ((Number) row.get("team_id")).longValue(),
+						row -> ((Number) row.get("tasks_won")).longValue()
+				));
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.dtos.request.ParticipantCSVDto;
+import com.bristotartur.cedupscore_api.exceptions.UnprocessableEntityException;
+import com.bristotartur.cedupscore_api.repositories.ParticipantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:csv_import_db",
+		"api.csv.chunk-size=2"
+})
+class ParticipantCSVServiceTests {
+
+	@Autowired
+	private ParticipantCSVService participantCSVService;
+
+	@Autowired
+	private ParticipantRepository participantRepository;
+
+	@Test
+	void malformedRowInLaterChunkIsReportedInsteadOfAbortingTheImport() {
+		var csv = """
+				nome,cpf,gênero,tipo,equipe
+				ana lima,900.000.001-75,Feminino,Aluno,Atômica
+				bruno lima,900.000.002-56,Masculino,Aluno,Twister
+				carla lima,900.000.003-37,Feminino,Aluno,Unicontti
+				daniel lima,900.000.004-18,Masculino
+				elisa lima,900.000.005-07,Feminino,Aluno,Papa-Léguas
+				""";
+
+		var report = participantCSVService.handleParticipantsRegistrationCSVFile(this.file(csv));
+
+		assertThat(report.total()).isEqualTo(5);
+		assertThat(report.added()).isEqualTo(4);
+		assertThat(report.registered()).isEqualTo(4);
+		assertThat(report.rejected()).isEqualTo(1);
+		assertThat(report.problems()).isEqualTo(1);
+		assertThat(report.participantsWithProblems())
+				.extracting(ParticipantCSVDto::getMessage)
+				.singleElement().asString()
+				.startsWith("A linha 5 não pôde ser lida");
+		assertThat(participantRepository.findByCpfIn(Set.of("900.000.001-75", "900.000.005-07"))).hasSize(2);
+	}
+
+	@Test
+	void cpfRepeatedInTheFileIsRejectedAndTheRestOfItsChunkIsImported() {
+		var csv = """
+				nome,cpf,gênero,tipo,equipe
+				gabriel lima,900.000.007-60,Masculino,Aluno,Atômica
+				gabriela lima,900.000.007-60,Feminino,Aluno,Twister
+				helena lima,900.000.008-41,Feminino,Aluno,Papa-Léguas
+				gabriela lima,900.000.007-60,Feminino,Aluno,Twister
+				""";
+
+		var report = participantCSVService.handleParticipantsRegistrationCSVFile(this.file(csv));
+
+		assertThat(report.total()).isEqualTo(4);
+		assertThat(report.added()).isEqualTo(2);
+		assertThat(report.registered()).isEqualTo(2);
+		assertThat(report.rejected()).isEqualTo(2);
+		assertThat(report.problems()).isEqualTo(2);
+		assertThat(report.participantsWithProblems())
+				.extracting(ParticipantCSVDto::getMessage)
+				.containsOnly("O CPF 900.000.007-60 aparece mais de uma vez no arquivo.");
+		assertThat(participantRepository.findByCpfIn(Set.of("900.000.007-60")))
+				.singleElement()
+				.satisfies(participant -> assertThat(participant.getName()).isEqualTo("GABRIEL LIMA"));
+		assertThat(participantRepository.findByCpfIn(Set.of("900.000.008-41"))).hasSize(1);
+	}
+
+	@Test
+	void rowRefusedByTheDatabaseIsRejectedAndTheRestOfItsChunkIsImported() {
+		var csv = """
+				nome,cpf,gênero,tipo,equipe
+				igor lima,900.000.009-22,Masculino,Aluno,Atômica
+				%s,900.000.010-66,Feminino,Aluno,Twister
+				""".formatted("j".repeat(300));
+
+		var report = participantCSVService.handleParticipantsRegistrationCSVFile(this.file(csv));
+
+		assertThat(report.total()).isEqualTo(2);
+		assertThat(report.added()).isEqualTo(1);
+		assertThat(report.registered()).isEqualTo(1);
+		assertThat(report.rejected()).isEqualTo(1);
+		assertThat(report.participantsWithProblems())
+				.singleElement()
+				.satisfies(dto -> {
+					assertThat(dto.getCpf()).isEqualTo("900.000.010-66");
+					assertThat(dto.getMessage()).startsWith("A linha não pôde ser salva");
+				});
+		assertThat(participantRepository.findByCpfIn(Set.of("900.000.009-22"))).hasSize(1);
+		assertThat(participantRepository.findByCpfIn(Set.of("900.000.010-66"))).isEmpty();
+	}
+
+	@Test
+	void syntaxErrorBeforeTheFirstCommitRejectsTheFile() {
+		var csv = """
+				nome,cpf,gênero,tipo,equipe
+				"fabio lima,900.000.006-98,Masculino,Aluno,Atômica
+				""";
+
+		assertThatThrownBy(() -> participantCSVService.handleParticipantsRegistrationCSVFile(this.file(csv)))
+				.isInstanceOf(UnprocessableEntityException.class);
+	}
+
+	private ByteArrayResource file(String csv) {
+		return new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.bristotartur.cedupscore_api.services;
+
+import com.bristotartur.cedupscore_api.dtos.request.ParticipantFilterDto;
+import com.bristotartur.cedupscore_api.events.ParticipantsChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:participant_listing_db")
+class ParticipantServiceTests {
+
+	@Autowired
+	private ParticipantService participantService;
+
+	@Autowired
+	private ParticipantCountService participantCountService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	static Stream<Arguments> filters() {
+		return Stream.of(
+				Arguments.of(new ParticipantFilterDto(null, null, null, null, null, null, null, null, null, null), 4),
+				Arguments.of(new ParticipantFilterDto(null, 2L, null, null, null, null, null, "active", "a-z", null), 4),
+				Arguments.of(new ParticipantFilterDto(null, null, 1L, null, null, null, null, null, null, null), 5)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("filters")
+	void pageStatementCountDoesNotGrowWithPageSize(ParticipantFilterDto filter, long expectedStatements) {
+		for (var size : new int[]{1, 10, 50}) {
+			participantCountService.onParticipantsChanged(ParticipantsChangedEvent.bulk());
+			statistics.clear();
+
+			var page = participantService.findAllParticipants(filter, PageRequest.of(0, size));
+
+			assertThat(page.getContent()).isNotEmpty();
+			assertThat(statistics.getPrepareStatementCount())
+					.as("statements for a page of %d", size)
+					.isEqualTo(expectedStatements);
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("filters")
+	void sliceStatementCountDoesNotGrowWithPageSize(ParticipantFilterDto filter, long expectedStatements) {
+		for (var size : new int[]{1, 10, 50}) {
+			statistics.clear();
+
+			var slice = participantService.findAllParticipantsWithoutCount(filter, PageRequest.of(0, size));
+
+			assertThat(slice.content()).isNotEmpty();
+			assertThat(statistics.getPrepareStatementCount())
+					.as("statements for a slice of %d", size)
+					.isEqualTo(expectedStatements - 1);
+		}
+	}
+
+	@Test
+	void shortNameTermsMatchAnywhereInTheName() {
+		var filter = new ParticipantFilterDto("si", null, null, null, null, null, null, null, null, null);
+
+		var page = participantService.findAllParticipants(filter, PageRequest.of(0, 50));
+
+		assertThat(page.getContent())
+				.extracting(participant -> participant.name)
+				.contains("CARLOS SILVA")
+				.allSatisfy(name -> assertThat(name).contains("SI"));
+	}
+
+	@Test
+	void prefixModeOnlyMatchesTheStartOfTheName() {
+		var filter = new ParticipantFilterDto("car", null, null, null, null, null, null, null, null, "prefix");
+
+		var page = participantService.findAllParticipants(filter, PageRequest.of(0, 50));
+
+		assertThat(page.getContent())
+				.extracting(participant -> participant.name)
+				.contains("CARLOS SILVA")
+				.allSatisfy(name -> assertThat(name).startsWith("CAR"));
+	}
+
+}
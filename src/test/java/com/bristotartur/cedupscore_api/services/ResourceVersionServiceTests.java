@@ -0,0 +1,39 @@
+package com.bristotartur.cedupscore_api.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:resource_version_db")
+@AutoConfigureMockMvc
+class ResourceVersionServiceTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+
+	@Test
+	void requestsForUnknownEventsDoNotGrowTheVersionMap() throws Exception {
+		var versionsByEvent = (Map<?, ?>) ReflectionTestUtils.getField(resourceVersionService, "versionsByEvent");
+		var tracked = versionsByEvent.size();
+
+		for (long id = 900_000; id < 900_100; id++) {
+			mockMvc.perform(get("/api/v1/events/{id}", id))
+					.andExpect(status().isNotFound());
+		}
+
+		assertThat(versionsByEvent).hasSize(tracked);
+	}
+
+}